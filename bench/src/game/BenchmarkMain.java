@@ -0,0 +1,70 @@
+package game;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+
+/**
+ * Runs every benchmark in this module and saves the results under the current commit.
+ * <p>
+ * Results are written as JMH JSON to {@code bench/results/<commit>.json}, where the commit is the short
+ * hash of the checked-out commit. Keeping one file per commit lets the numbers for the hot paths be compared
+ * across changes. An optional first argument selects benchmarks by regular expression, and an optional
+ * second argument overrides the commit name.
+ * </p>
+ * <p>
+ * The module needs the {@code JMH} library (jmh-core and jmh-generator-annprocess) and annotation
+ * processing enabled, and must be run from the project root so the game can find its {@code data} folder.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class BenchmarkMain {
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args Optional benchmark pattern and commit name.
+     * @throws RunnerException If JMH fails to run a benchmark.
+     */
+    public static void main(String[] args) throws RunnerException {
+        String pattern = args.length > 0 ? args[0] : "game\\..*Benchmark";
+        String commit = args.length > 1 ? args[1] : currentCommit();
+
+        File results = new File("bench/results");
+        results.mkdirs();
+
+        Options options = new OptionsBuilder()
+                .include(pattern)
+                .resultFormat(ResultFormatType.JSON)
+                .result(new File(results, commit + ".json").getPath())
+                .build();
+        new Runner(options).run();
+    }
+
+    private static String currentCommit() {
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").start();
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(git.getInputStream()))) {
+                String line = in.readLine();
+                if (git.waitFor() == 0 && line != null) {
+                    return line.trim();
+                }
+            }
+        } catch (IOException e) {
+            System.out.println(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "unknown";
+    }
+}
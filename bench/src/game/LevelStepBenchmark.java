@@ -0,0 +1,46 @@
+package game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a single world step of each game level.
+ * <p>
+ * Each level is built headless, exactly as the game builds it, and stepped with {@code oneStep()}.
+ * The result covers the physics engine together with every step and collision listener the level installs.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class LevelStepBenchmark {
+    @Param({"1", "2", "3"})
+    public int levelNumber;
+
+    private GameLevel level;
+
+    /**
+     * Builds a fresh level for each iteration, so the scene does not drift too far from its start.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        HeadlessRunner.makeHeadless();
+        level = HeadlessRunner.createLevel(levelNumber);
+    }
+
+    /**
+     * Runs one world step.
+     */
+    @Benchmark
+    public void step() {
+        level.oneStep();
+    }
+}
@@ -0,0 +1,70 @@
+package game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures painting the game view's background and foreground into an off-screen image.
+ * <p>
+ * The view is set up as {@link Game} sets it up, at 1200 by 800 pixels, and painted into a
+ * display-compatible image, so the numbers reflect the drawing code rather than the speed of the screen.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class PaintBenchmark {
+    private static final int WIDTH = 1200;
+    private static final int HEIGHT = 800;
+
+    private GameView view;
+    private BufferedImage target;
+    private Graphics2D g;
+
+    /**
+     * Builds the first level, a view onto it and the off-screen image to paint into.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessRunner.makeHeadless();
+        GameLevel level = HeadlessRunner.createLevel(1);
+        view = new GameView(level, WIDTH, HEIGHT);
+        view.setSize(WIDTH, HEIGHT);
+        target = CompatibleImages.create(WIDTH, HEIGHT, Transparency.OPAQUE);
+        g = target.createGraphics();
+    }
+
+    /**
+     * Releases the graphics context of the off-screen image.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        g.dispose();
+    }
+
+    /**
+     * Paints the background.
+     */
+    @Benchmark
+    public void paintBackground() {
+        view.paintBackground(g);
+    }
+
+    /**
+     * Paints the sprites and the HUD.
+     */
+    @Benchmark
+    public void paintForeground() {
+        view.paintForeground(g);
+    }
+}
@@ -0,0 +1,113 @@
+package game;
+
+import city.cs.engine.*;
+import org.jbox2d.common.Vec2;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the player's collision handling scales with the number of contacts in a step.
+ * <p>
+ * Before every measured step a number of bodies is laid out in a row over the player in {@link Level2}, the
+ * level that registers handlers for keys and doorways. Two of them are enemies, since a third enemy contact
+ * in one step would kill the player, and the rest are armour pickups, keys and doors in turn. The step that
+ * follows begins a contact between the player and each of them, which goes through the level's
+ * {@link ContactDispatcher} and {@link DeferredQueue} to the handler for its type.
+ * </p>
+ * <p>
+ * The bodies are spaced so that none of them touches another, and the player is given a wide, flat extra
+ * fixture so that it touches them all. The contacts measured are then only those with the player, not the
+ * contacts between the bodies themselves, which would grow with the square of their number. The extra bodies
+ * are not the level's own armour and key, so apart from the keys, which their handler removes, they are left
+ * as they were, and the player's health and the level's state are reset before every step.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class PlayerContactBenchmark {
+    // Wider than the widest body in the row, a key, so that neighbours never touch
+    private static final float SPACING = 7;
+    // High above the level, so that nothing else is in the way
+    private static final float ROW_Y = 100;
+    private static final int ENEMIES = 2;
+
+    @Param({"8", "64", "256"})
+    public int contacts;
+
+    private GameLevel level;
+    private final List<Body> bodies = new ArrayList<>();
+
+    /**
+     * Builds the level once per trial and widens the player to reach the whole row.
+     */
+    @Setup(Level.Trial)
+    public void setUpLevel() {
+        HeadlessRunner.makeHeadless();
+        level = HeadlessRunner.createLevel(2);
+        new SolidFixture(level.getPlayer(), new BoxShape(contacts * SPACING / 2, 0.5f));
+    }
+
+    /**
+     * Moves the player to the row and lays the contact bodies out over it before each measured step.
+     */
+    @Setup(Level.Invocation)
+    public void placeBodies() {
+        Player.resetStats();
+        GameState.setlevelWon(false);
+        Player player = level.getPlayer();
+        player.setPosition(new Vec2(0, ROW_Y));
+        player.setLinearVelocity(new Vec2(0, 0));
+
+        float start = -(contacts - 1) * SPACING / 2;
+        for (int i = 0; i < contacts; i++) {
+            Body body;
+            if (i < ENEMIES) {
+                body = new Enemy(level);
+            } else if (i % 3 == 0) {
+                body = new Armour(level);
+            } else if (i % 3 == 1) {
+                body = new Key(level);
+            } else {
+                body = new Door(level);
+            }
+            body.setPosition(new Vec2(start + i * SPACING, ROW_Y));
+            bodies.add(body);
+        }
+    }
+
+    /**
+     * Removes the contact bodies that are still in the world.
+     */
+    @TearDown(Level.Invocation)
+    public void removeBodies() {
+        List<Body> remaining = new ArrayList<>(level.getDynamicBodies());
+        remaining.addAll(level.getStaticBodies());
+        GameAudio.runSilently(() -> {
+            for (Body body : bodies) {
+                if (remaining.contains(body)) {
+                    body.destroy();
+                }
+            }
+        });
+        bodies.clear();
+    }
+
+    /**
+     * Runs the step in which all contacts with the player begin.
+     */
+    @Benchmark
+    public void step() {
+        level.oneStep();
+    }
+}
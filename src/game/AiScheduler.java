@@ -0,0 +1,301 @@
+package game;
+
+import city.cs.engine.*;
+import org.jbox2d.common.Vec2;
+
+/**
+ * Decides how often each enemy's AI is updated, based on how far it is from the player, and limits the time
+ * spent on enemy AI in each step.
+ * <p>
+ * The distance from the player is split into bands. Enemies in the nearest band are updated every step,
+ * and enemies in the next three are updated every second, fourth and eighth step; anything beyond the last
+ * band is not updated at all and is left to fall asleep. The {@link MovementSystem} asks the scheduler
+ * before updating each enemy, and passes each enemy's index as its slot so that enemies sharing a rate are
+ * spread over different steps instead of all being updated on the same one. An enemy that is updated less
+ * often moves the same distance overall, as its movement is scaled by its rate.
+ * </p>
+ * <p>
+ * With this, the AI cost of a level depends mostly on the number of enemies near the player, however many
+ * are further away. Until a focus body is set, every enemy is updated every step.
+ * </p>
+ * <p>
+ * Enemy AI also has a fixed time budget per step, 2000 microseconds unless set with
+ * {@code -Dgame.aibudget=<microseconds>} or {@link #setBudgetMicros(long)}; 0 means no limit. The
+ * {@link MovementSystem} checks {@link #hasBudget()} before each enemy and stops for the step once the budget
+ * is used up. Each kind of enemy then starts the next step from the first enemy it did not reach, and the kind
+ * that goes first changes every step, so leftover work is carried over round-robin and no enemy is starved.
+ * Nothing is done for the enemies that were not reached when the budget ran out. Each enemy remembers the
+ * last step it was reached on, and when it is next reached {@link #isOwed(int, int, long)} tells whether it
+ * was due on a step in between; if so it is updated then, whether or not it is due on that step. The budget is checked between enemies, so a single update that is
+ * slow on its own still runs to the end. The scheduler counts the steps that ran over budget, the enemies
+ * carried over and the longest time spent on AI in one step.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class AiScheduler {
+    /** The rate returned for enemies too far away to be updated. */
+    public static final int ASLEEP = 0;
+
+    private static final int[] RATES = {1, 2, 4, 8};
+
+    private final float[] bandLimitsSquared = new float[RATES.length];
+    private Body focus;
+    private long tick;
+    private long updates, skipped;
+
+    private long budgetNanos = Long.getLong("game.aibudget", 2000) * 1000;
+    private long stepStart;
+    private boolean overBudget;
+    private long overruns, carriedOver, lastStepNanos, maxStepNanos;
+
+    /**
+     * Constructs a scheduler with bands suited to the current levels, which are about 60 units across, so
+     * that enemies in them are nearly always updated every step. Enemies are updated every step within 40
+     * units, every second step within 60, every fourth within 80 and every eighth within 120; beyond that they
+     * sleep.
+     */
+    public AiScheduler() {
+        this(40, 60, 80, 120);
+    }
+
+    /**
+     * Constructs a scheduler with the given distance bands. Each limit must be at least as large as the one
+     * before.
+     *
+     * @param full Enemies closer than this are updated every step.
+     * @param half Enemies closer than this are updated every second step.
+     * @param quarter Enemies closer than this are updated every fourth step.
+     * @param eighth Enemies closer than this are updated every eighth step; enemies further away sleep.
+     */
+    public AiScheduler(float full, float half, float quarter, float eighth) {
+        setBands(full, half, quarter, eighth);
+    }
+
+    /**
+     * Changes the distance bands. Each limit must be at least as large as the one before.
+     *
+     * @param full Enemies closer than this are updated every step.
+     * @param half Enemies closer than this are updated every second step.
+     * @param quarter Enemies closer than this are updated every fourth step.
+     * @param eighth Enemies closer than this are updated every eighth step; enemies further away sleep.
+     */
+    public void setBands(float full, float half, float quarter, float eighth) {
+        float[] limits = {full, half, quarter, eighth};
+        for (int i = 0; i < limits.length; i++) {
+            if (i > 0 && limits[i] < limits[i - 1]) {
+                throw new IllegalArgumentException("Distance bands must not get smaller");
+            }
+            bandLimitsSquared[i] = limits[i] * limits[i];
+        }
+    }
+
+    /**
+     * Sets the body that distances are measured from, normally the player.
+     *
+     * @param focus The focus body, or {@code null} to update every enemy every step.
+     */
+    public void setFocus(Body focus) {
+        this.focus = focus;
+    }
+
+    /**
+     * Sets the time enemy AI may take in each step.
+     *
+     * @param micros The budget in microseconds, or 0 for no limit.
+     */
+    public void setBudgetMicros(long micros) {
+        budgetNanos = Math.max(0, micros) * 1000;
+    }
+
+    /**
+     * Returns the time enemy AI may take in each step.
+     *
+     * @return The budget in microseconds, or 0 if there is no limit.
+     */
+    public long getBudgetMicros() {
+        return budgetNanos / 1000;
+    }
+
+    /**
+     * Moves the scheduler on to the next step and starts timing it. Called once per step, before any enemy
+     * is updated.
+     */
+    public void beginStep() {
+        tick++;
+        overBudget = false;
+        stepStart = System.nanoTime();
+    }
+
+    /**
+     * Stops timing the step. Called once per step, after the last enemy is updated.
+     */
+    public void endStep() {
+        lastStepNanos = System.nanoTime() - stepStart;
+        maxStepNanos = Math.max(maxStepNanos, lastStepNanos);
+    }
+
+    /**
+     * Returns the number of the current step, which counts up from 1.
+     *
+     * @return The current step.
+     */
+    public long getStep() {
+        return tick;
+    }
+
+    /**
+     * Checks whether there is time left in this step's budget for another enemy. The first time the answer is
+     * no in a step, the step is counted as an overrun.
+     *
+     * @return true if another enemy may be updated in this step.
+     */
+    public boolean hasBudget() {
+        if (budgetNanos == 0) {
+            return true;
+        }
+        if (overBudget) {
+            return false;
+        }
+        if (System.nanoTime() - stepStart < budgetNanos) {
+            return true;
+        }
+        overBudget = true;
+        overruns++;
+        return false;
+    }
+
+    /**
+     * Returns how often an enemy should be updated.
+     *
+     * @param enemy The enemy.
+     * @return 1, 2, 4 or 8 for an update every that many steps, or {@link #ASLEEP}.
+     */
+    public int rateOf(Body enemy) {
+        if (focus == null) {
+            return 1;
+        }
+        Vec2 a = enemy.getPosition();
+        Vec2 b = focus.getPosition();
+        float dx = a.x - b.x;
+        float dy = a.y - b.y;
+        float distanceSquared = dx * dx + dy * dy;
+        for (int i = 0; i < RATES.length; i++) {
+            if (distanceSquared < bandLimitsSquared[i]) {
+                return RATES[i];
+            }
+        }
+        return ASLEEP;
+    }
+
+    /**
+     * Checks whether an enemy with the given rate is due for an update on this step, and counts the answer.
+     *
+     * @param rate The enemy's rate, from {@link #rateOf(Body)}.
+     * @param slot A number that differs between enemies, such as their index, to spread updates over steps.
+     * @return true if the enemy should be updated now.
+     */
+    public boolean isDue(int rate, int slot) {
+        if (due(rate, slot)) {
+            updates++;
+            return true;
+        }
+        skipped++;
+        return false;
+    }
+
+    /**
+     * Checks whether an enemy was due for an update on any of the steps it was not reached on because the
+     * budget ran out, from the given one up to the last, and counts it as carried over if it was.
+     *
+     * @param rate The enemy's rate, from {@link #rateOf(Body)}.
+     * @param slot The same slot the enemy is checked with in {@link #isDue(int, int)}.
+     * @param since The step after the one on which the enemy was last reached.
+     * @return true if the enemy is owed an update.
+     */
+    public boolean isOwed(int rate, int slot, long since) {
+        if (rate == ASLEEP) {
+            return false;
+        }
+        // The first step from since on which the enemy was due
+        long first = since + (-(since + slot) & (rate - 1));
+        if (first < tick) {
+            carriedOver++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean due(int rate, int slot) {
+        return rate != ASLEEP && ((tick + slot) & (rate - 1)) == 0;
+    }
+
+    /**
+     * Returns the number of enemy updates that were run.
+     *
+     * @return The update count.
+     */
+    public long getUpdates() {
+        return updates;
+    }
+
+    /**
+     * Returns the number of enemy updates that were skipped because the enemy was far away or asleep.
+     *
+     * @return The skipped update count.
+     */
+    public long getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * Returns the number of steps in which enemy AI used up its budget.
+     *
+     * @return The overrun count.
+     */
+    public long getOverruns() {
+        return overruns;
+    }
+
+    /**
+     * Returns the number of live enemies that were due on a step they were not reached in because the budget
+     * ran out, and were updated later instead.
+     *
+     * @return The carried-over enemy count.
+     */
+    public long getCarriedOver() {
+        return carriedOver;
+    }
+
+    /**
+     * Returns the time spent on enemy AI in the last step.
+     *
+     * @return The last step's AI time, in microseconds.
+     */
+    public double getLastStepMicros() {
+        return lastStepNanos / 1000.0;
+    }
+
+    /**
+     * Returns the longest time spent on enemy AI in one step.
+     *
+     * @return The longest step's AI time, in microseconds.
+     */
+    public double getMaxStepMicros() {
+        return maxStepNanos / 1000.0;
+    }
+
+    /**
+     * Returns a one-line summary of the scheduler's counts.
+     *
+     * @return The summary.
+     */
+    @Override
+    public String toString() {
+        return String.format("AI: %d updates, %d skipped, %d steps over the %d us budget, %d enemies carried over, "
+                        + "longest step %.1f us", updates, skipped, overruns, getBudgetMicros(), carriedOver,
+                getMaxStepMicros());
+    }
+}
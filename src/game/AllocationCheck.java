@@ -0,0 +1,198 @@
+package game;
+
+import city.cs.engine.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Checks that the game's own work in a step does not allocate memory.
+ * <p>
+ * Each level is built headless, and every step listener it installs, its {@link MovementSystem},
+ * {@link DeferredQueue}, {@link BulletPool} and {@link ProjectileEngine} among them, is taken off the world
+ * and called instead from one {@link Meter} in the same order. The meter reads the bytes allocated by the
+ * current thread just before and just after each listener, so only the listeners' work is counted, not the
+ * physics engine's step or its handling of the level's bodies and contacts. Contacts that the engine reports
+ * during the step are queued by the deferred queue and handled in its flush, so their handling is counted
+ * too. The level is stepped for a while first, so that the JIT has compiled the hot paths, and then measured.
+ * </p>
+ * <p>
+ * Usage: {@code java game.AllocationCheck [steps] [maxBytesPerStep]}. The program prints, for each level, the
+ * bytes allocated per step by each listener and by all of them together, and exits with status 1 if any
+ * level's total is over the limit, which defaults to zero, so it can be used as a regression check.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class AllocationCheck {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Calls a level's step listeners in place of the world, counting the bytes each of them allocates.
+     */
+    public static class Meter implements StepListener {
+        private final StepListener[] listeners;
+        private final long[] allocated;
+        private final long thread = Thread.currentThread().getId();
+        private final long overhead;
+        private boolean measuring;
+        private int steps;
+
+        /**
+         * Creates a meter for the given listeners, which must already have been removed from the world.
+         *
+         * @param listeners The listeners to call on every step, in order.
+         */
+        public Meter(List<StepListener> listeners) {
+            this.listeners = listeners.toArray(new StepListener[0]);
+            allocated = new long[this.listeners.length];
+            // What two reads of the counter allocate by themselves, taken off every listener's count
+            long first = THREADS.getThreadAllocatedBytes(thread);
+            long second = THREADS.getThreadAllocatedBytes(thread);
+            overhead = second - first;
+        }
+
+        /**
+         * Starts counting from the next step.
+         */
+        public void start() {
+            measuring = true;
+        }
+
+        /**
+         * Calls every listener before the physics step.
+         *
+         * @param e The event details of the pre-step phase.
+         */
+        @Override
+        public void preStep(StepEvent e) {
+            for (int i = 0; i < listeners.length; i++) {
+                long before = THREADS.getThreadAllocatedBytes(thread);
+                listeners[i].preStep(e);
+                count(i, before);
+            }
+        }
+
+        /**
+         * Calls every listener after the physics step.
+         *
+         * @param e The event details of the post-step phase.
+         */
+        @Override
+        public void postStep(StepEvent e) {
+            for (int i = 0; i < listeners.length; i++) {
+                long before = THREADS.getThreadAllocatedBytes(thread);
+                listeners[i].postStep(e);
+                count(i, before);
+            }
+            if (measuring) {
+                steps++;
+            }
+        }
+
+        // Adds what listener i allocated since the given reading of the counter
+        private void count(int i, long before) {
+            long bytes = THREADS.getThreadAllocatedBytes(thread) - before - overhead;
+            if (measuring) {
+                allocated[i] += bytes;
+            }
+        }
+
+        /**
+         * Returns the average number of bytes one listener allocated per measured step.
+         *
+         * @param i The index of the listener, in the order given to the meter.
+         * @return The listener's bytes per step.
+         */
+        public double bytesPerStep(int i) {
+            return steps == 0 ? 0 : (double) allocated[i] / steps;
+        }
+
+        /**
+         * Returns the average number of bytes all the listeners together allocated per measured step.
+         *
+         * @return The total bytes per step.
+         */
+        public double totalBytesPerStep() {
+            double total = 0;
+            for (int i = 0; i < listeners.length; i++) {
+                total += bytesPerStep(i);
+            }
+            return total;
+        }
+
+        /**
+         * Returns the listener at the given index.
+         *
+         * @param i The index of the listener.
+         * @return The listener.
+         */
+        public StepListener getListener(int i) {
+            return listeners[i];
+        }
+
+        /**
+         * Returns the number of listeners this meter calls.
+         *
+         * @return The listener count.
+         */
+        public int getListenerCount() {
+            return listeners.length;
+        }
+    }
+
+    /**
+     * Moves a level's step listeners into a meter, warms the level up and measures its steps.
+     *
+     * @param level The level to measure. It must not have been started.
+     * @param steps The number of steps to warm up for, and then to measure.
+     * @return The meter, holding the bytes each listener allocated.
+     */
+    public static Meter measure(GameLevel level, int steps) {
+        List<StepListener> listeners = level.getLifecycle().getListeners();
+        for (StepListener listener : listeners) {
+            level.removeStepListener(listener);
+        }
+        Meter meter = new Meter(listeners);
+        level.addStepListener(meter);
+
+        for (int i = 0; i < steps; i++) {
+            level.oneStep();
+        }
+        meter.start();
+        for (int i = 0; i < steps; i++) {
+            level.oneStep();
+        }
+        return meter;
+    }
+
+    /**
+     * Runs the check on every level.
+     *
+     * @param args Optional number of measured steps and allowed bytes per step.
+     */
+    public static void main(String[] args) {
+        HeadlessRunner.makeHeadless();
+        int steps = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        double limit = args.length > 1 ? Double.parseDouble(args[1]) : 0;
+
+        boolean passed = true;
+        for (int number = 1; number <= 3; number++) {
+            Meter meter = measure(HeadlessRunner.createLevel(number), steps);
+            double total = meter.totalBytesPerStep();
+            boolean ok = total <= limit;
+            passed &= ok;
+            System.out.printf("Level %d: %.2f bytes per step %s%n", number, total, ok ? "OK" : "FAILED");
+            for (int i = 0; i < meter.getListenerCount(); i++) {
+                System.out.printf("  %-28s %.2f%n",
+                        meter.getListener(i).getClass().getName(), meter.bytesPerStep(i));
+            }
+        }
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package game;
+
+import city.cs.engine.*;
+
+/**
+ * Measures animation time in simulation steps rather than wall-clock time.
+ * <p>
+ * This class implements {@link StepListener} and advances by the length of every world step, so sprite
+ * animations run at the same speed as the game: they stop when the world is stopped, slow down with
+ * {@link #setTimeScale(float)}, and always show the same frame after the same number of steps. Each
+ * {@link GameLevel} owns one clock, which its {@link SpriteLayer} reads when painting.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class AnimationClock implements StepListener {
+    private double time;
+    private float timeScale = 1;
+
+    /**
+     * Returns the current animation time.
+     *
+     * @return The simulated time since the clock was created, in milliseconds.
+     */
+    public long now() {
+        return (long) time;
+    }
+
+    /**
+     * Sets how fast animations run compared with the simulation.
+     *
+     * @param timeScale The speed factor, where 1 is normal speed and 0 freezes all animations.
+     */
+    public void setTimeScale(float timeScale) {
+        this.timeScale = Math.max(0, timeScale);
+    }
+
+    /**
+     * Returns how fast animations run compared with the simulation.
+     *
+     * @return The current speed factor.
+     */
+    public float getTimeScale() {
+        return timeScale;
+    }
+
+    /**
+     * Advances the clock by the length of the step that is about to run.
+     *
+     * @param e The event details of the pre-step phase.
+     */
+    @Override
+    public void preStep(StepEvent e) {
+        time += e.getStep() * 1000.0 * timeScale;
+    }
+
+    /**
+     * No action taken after the physics step.
+     * @param e The event details of the post-step phase.
+     */
+    @Override
+    public void postStep(StepEvent e) {
+    }
+}
@@ -1,10 +1,6 @@
 package game;
 import city.cs.engine.*;
 
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
-import java.io.IOException;
-
 /**
  * Represents an armour collectible in the game.
  * <p>
@@ -36,11 +32,7 @@ public class Armour extends Collectible{
 
     // Static initializer for loading the armour sound.
     static {
-        try {
-            armour = new SoundClip("data/Armour.wav");
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            System.out.println(e);
-        }
+        armour = GameAudio.load("data/Armour.wav");
     }
 
     /**
@@ -55,7 +47,7 @@ public class Armour extends Collectible{
     @Override
     public void destroy()
     {
-        armour.play();
+        GameAudio.play(armour);
         super.destroy();
     }
 
@@ -44,10 +44,20 @@ public class ArmourCollision extends CollectibleCollision {
      */
     @Override
     public void collide(CollisionEvent e) {
-        if (e.getOtherBody() == collectible) {
+        handle(e.getOtherBody());
+    }
+
+    /**
+     * Gives the player armour if the body touched is this handler's armour and the player has none.
+     *
+     * @param other The body the player touched.
+     */
+    @Override
+    public void handle(Body other) {
+        if (other == collectible) {
             if (player.getArmour() < 1) {
                 player.increaseArmour();
-                collectible.destroy();
+                DeferredQueue.destroy(collectible);
             }
         }
     }
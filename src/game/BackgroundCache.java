@@ -0,0 +1,112 @@
+package game;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Holds a level background already scaled to the size of the view.
+ * <p>
+ * The background picture is drawn once into a display-compatible image of exactly the view's size.
+ * After that, painting the background is a plain unscaled copy. The cached image is only rebuilt when a
+ * new background is set, for example when the level changes, or when the size of the view changes.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class BackgroundCache {
+    private Image source;
+    private BufferedImage cached;
+    private long rebuilds;
+
+    /**
+     * Constructs a cache for the given background picture.
+     *
+     * @param source The background picture, at any size.
+     */
+    public BackgroundCache(Image source) {
+        this.source = source;
+    }
+
+    /**
+     * Replaces the background picture. The scaled copy is rebuilt on the next paint.
+     *
+     * @param newSource The new background picture.
+     */
+    public void setSource(Image newSource) {
+        source = newSource;
+        cached = null;
+    }
+
+    /**
+     * Returns the background picture as it was set, before scaling.
+     *
+     * @return The current background picture.
+     */
+    public Image getSource() {
+        return source;
+    }
+
+    /**
+     * Draws the background into a view of the given size, rebuilding the scaled copy if needed.
+     *
+     * @param g The graphics context of the view.
+     * @param width The width of the view in pixels.
+     * @param height The height of the view in pixels.
+     */
+    public void paint(Graphics2D g, int width, int height) {
+        if (width <= 0 || height <= 0 || source == null || source.getWidth(null) <= 0) {
+            return;
+        }
+        if (cached == null || cached.getWidth() != width || cached.getHeight() != height) {
+            rebuild(width, height);
+        }
+        g.drawImage(cached, 0, 0, null);
+    }
+
+    /**
+     * Replaces the background picture with one whose scaled copy was already made, for example by
+     * {@link LevelLoader} on its own thread. If the copy does not match the view size it is rebuilt as usual.
+     *
+     * @param newSource The new background picture.
+     * @param prepared The picture scaled with {@link #prepare(Image, int, int)}.
+     */
+    public void setSource(Image newSource, BufferedImage prepared) {
+        source = newSource;
+        cached = prepared;
+    }
+
+    /**
+     * Makes a copy of a background picture scaled for a view of the given size.
+     * This does not use or change any cache, so it can run on any thread.
+     *
+     * @param source The background picture, fully loaded.
+     * @param width The width of the view.
+     * @param height The height of the view.
+     * @return The scaled copy.
+     */
+    public static BufferedImage prepare(Image source, int width, int height) {
+        BufferedImage scaled = CompatibleImages.create(width, height, Transparency.OPAQUE);
+        Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        // The background keeps its 8:3 aspect ratio and is cropped on the right
+        g.drawImage(source, 0, 0, height * 8 / 3, height, null);
+        g.dispose();
+        return scaled;
+    }
+
+    /**
+     * Returns how many times the scaled copy has been rebuilt.
+     *
+     * @return The number of rebuilds since the cache was created.
+     */
+    public long getRebuilds() {
+        return rebuilds;
+    }
+
+    private void rebuild(int width, int height) {
+        cached = prepare(source, width, height);
+        rebuilds++;
+    }
+}
@@ -7,7 +7,8 @@ import city.cs.engine.*;
  *
  * <p>
  * This class implements {@link CollisionListener} to handle collisions involving bullet objects.
- * When a bullet collides with an object that is not another bullet, it will destroy itself.
+ * When a bullet collides with an object that is not another bullet, it is removed from play; a pooled
+ * bullet goes back to its {@link BulletPool} instead of being destroyed.
  * If the collision is with an enemy or a flying enemy, it additionally triggers damage processes
  * on the enemy, potentially destroying the enemy if its health is depleted.
  * </p>
@@ -16,7 +17,7 @@ import city.cs.engine.*;
  * @version 1.0
  * @since 1.0
  */
-public class BulletCollision implements CollisionListener {
+public class BulletCollision implements CollisionListener, ContactHandler {
     private Bullets bullet;
 
     /**
@@ -32,33 +33,71 @@ public class BulletCollision implements CollisionListener {
 
     /**
      * Handles the collision event for the bullet.
-     * When a collision occurs, the bullet will destroy itself unless it collides with another bullet.
-     * If the colliding body is an instance of Enemy or FlyingEnemy, it triggers health reduction
-     * on the enemy. If the enemy's health reaches zero, it will be destroyed and the enemy count
-     * is decremented.
+     * The collision is posted to the level's {@link DeferredQueue} and dealt with by
+     * {@link #handle(Body)} at the end of the step, after the engine has finished resolving contacts.
      *
      * @param e Details about the collision event.
      */
     @Override
     public void collide(CollisionEvent e) {
-        if (!(e.getOtherBody() instanceof Bullets)) {
-            bullet.destroy();
-            if (e.getOtherBody() instanceof Enemy) {
-                Enemy enemy = (Enemy) e.getOtherBody();
-                enemy.decreaseHealth();
-                if (!enemy.isAlive()) {
-                    e.getOtherBody().destroy();
-                    Enemy.decreaseEnemyCount();
-                }
+        if (CollisionLayer.accepts(CollisionLayer.PROJECTILE, e.getOtherBody())) {
+            DeferredQueue.post(bullet.getWorld(), this, e.getOtherBody());
+        }
+    }
+
+    /**
+     * Handles the bullet touching a body, once the step in which the collision was reported has finished.
+     * The bullet is released unless it touched another bullet. A bullet that has already been released in
+     * this step, or is parked in its pool, is ignored. If the body is an Enemy or FlyingEnemy, it takes
+     * damage through {@link #damage(Body)}.
+     *
+     * @param other The body the bullet touched.
+     */
+    @Override
+    public void handle(Body other) {
+        if (!bullet.isActive()) {
+            return;
+        }
+        if (!(other instanceof Bullets)) {
+            bullet.release();
+            damage(other);
+        }
+    }
+
+    /**
+     * Applies one shot's damage to a body. Enemies and flying enemies lose health, and are removed from the
+     * enemy count and marked for destruction at the end of the step once their health runs out; any other
+     * body is unaffected. An enemy that is already dead takes no further damage.
+     * This is shared by physical bullets and hitscan shots so both follow the same rules.
+     *
+     * @param other The body that was hit.
+     * @return true if the body was an enemy or flying enemy.
+     */
+    public static boolean damage(Body other) {
+        if (other instanceof Enemy) {
+            Enemy enemy = (Enemy) other;
+            if (!enemy.isAlive()) {
+                return true;  // already killed earlier in this step and waiting to be destroyed
+            }
+            enemy.decreaseHealth();
+            if (!enemy.isAlive()) {
+                DeferredQueue.destroy(other);
+                Enemy.decreaseEnemyCount();
+            }
+            return true;
+        }
+        if (other instanceof FlyingEnemy) {
+            FlyingEnemy flyingenemy = (FlyingEnemy) other;
+            if (!flyingenemy.isAlive()) {
+                return true;
             }
-            if (e.getOtherBody() instanceof FlyingEnemy) {
-                FlyingEnemy flyingenemy = (FlyingEnemy) e.getOtherBody();
-                flyingenemy.decreaseHealth();
-                if (!flyingenemy.isAlive()) {
-                    e.getOtherBody().destroy();
-                    FlyingEnemy.decreaseEnemyCount();
-                }
+            flyingenemy.decreaseHealth();
+            if (!flyingenemy.isAlive()) {
+                DeferredQueue.destroy(other);
+                FlyingEnemy.decreaseEnemyCount();
             }
+            return true;
         }
+        return false;
     }
 }
@@ -0,0 +1,180 @@
+package game;
+
+import city.cs.engine.*;
+import org.jbox2d.common.Vec2;
+
+/**
+ * A fixed set of reusable bullets for the player's gun.
+ * <p>
+ * All bullet bodies, and their collision handlers, are created once when the level is built and parked far
+ * outside the level while they are not in use. Firing takes a parked bullet, places it next to the player and
+ * sets it moving; when the bullet hits something, flies longer than its lifetime or leaves the level bounds,
+ * it is parked again after the step. Sustained firing therefore creates no new bodies and the number of
+ * bodies in the world never grows.
+ * </p>
+ * <p>
+ * If every bullet is already in flight, the shot is dropped and counted as a miss.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class BulletPool implements StepListener {
+    private static final float PARK_X = -1000, PARK_Y = -1000, PARK_SPACING = 2;
+
+    private final Bullets[] bullets;
+    private final float[] age;
+    private final boolean[] inFlight;
+    private final boolean[] recycleRequested;
+    private final int[] free;
+    private int freeCount;
+    private final float lifetime;
+    private final float minX, maxX, minY, maxY;
+    private long misses;
+    private final Vec2 scratch = new Vec2();
+
+    /**
+     * Creates a pool of bullets in the given world, all parked and ready to fire.
+     *
+     * @param world The world the bullets belong to.
+     * @param capacity The maximum number of bullets in flight at once.
+     * @param lifetime The time in seconds after which a bullet that has not hit anything is recycled.
+     * @param minX The left edge of the level; bullets further left are recycled.
+     * @param maxX The right edge of the level; bullets further right are recycled.
+     * @param minY The bottom edge of the level; bullets further down are recycled.
+     * @param maxY The top edge of the level; bullets further up are recycled.
+     */
+    public BulletPool(World world, int capacity, float lifetime, float minX, float maxX, float minY, float maxY) {
+        this.lifetime = lifetime;
+        this.minX = minX;
+        this.maxX = maxX;
+        this.minY = minY;
+        this.maxY = maxY;
+        bullets = new Bullets[capacity];
+        age = new float[capacity];
+        inFlight = new boolean[capacity];
+        recycleRequested = new boolean[capacity];
+        free = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            bullets[i] = new Bullets(world, this, i);
+            park(i);
+        }
+    }
+
+    /**
+     * Fires a bullet from the given position with the given velocity.
+     *
+     * @param x The horizontal starting position.
+     * @param y The vertical starting position.
+     * @param vx The horizontal velocity.
+     * @param vy The vertical velocity.
+     * @return The bullet that was fired, or {@code null} if every bullet is already in flight.
+     */
+    public Bullets fire(float x, float y, float vx, float vy) {
+        if (freeCount == 0) {
+            misses++;
+            return null;
+        }
+        int i = free[--freeCount];
+        Bullets bullet = bullets[i];
+        inFlight[i] = true;
+        recycleRequested[i] = false;
+        age[i] = 0;
+        bullet.setPosition(scratch.set(x, y));
+        bullet.setLinearVelocity(scratch.set(vx, vy));
+        bullet.launch();
+        return bullet;
+    }
+
+    /**
+     * Asks for a bullet to be returned to the pool at the end of the current step.
+     * Called when a bullet hits something.
+     *
+     * @param bullet The bullet to recycle.
+     */
+    public void recycle(Bullets bullet) {
+        int i = bullet.getPoolIndex();
+        if (inFlight[i]) {
+            recycleRequested[i] = true;
+        }
+    }
+
+    /**
+     * Checks whether a bullet is currently flying, rather than parked or waiting to be parked.
+     *
+     * @param bullet A bullet from this pool.
+     * @return true if the bullet is in flight and has not hit anything yet.
+     */
+    public boolean isInFlight(Bullets bullet) {
+        int i = bullet.getPoolIndex();
+        return inFlight[i] && !recycleRequested[i];
+    }
+
+    /**
+     * Returns the number of bullets currently in flight.
+     *
+     * @return The pool occupancy.
+     */
+    public int getInFlightCount() {
+        return bullets.length - freeCount;
+    }
+
+    /**
+     * Returns the number of bullets in the pool.
+     *
+     * @return The pool capacity.
+     */
+    public int getCapacity() {
+        return bullets.length;
+    }
+
+    /**
+     * Returns how many shots were dropped because every bullet was in flight.
+     *
+     * @return The number of missed shots.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * No action taken before the physics step.
+     * @param e The event details of the pre-step phase.
+     */
+    @Override
+    public void preStep(StepEvent e) {
+    }
+
+    /**
+     * Ages every bullet in flight and parks the ones that hit something, expired or left the level.
+     *
+     * @param e The event details of the post-step phase.
+     */
+    @Override
+    public void postStep(StepEvent e) {
+        float step = e.getStep();
+        for (int i = 0; i < bullets.length; i++) {
+            if (!inFlight[i]) {
+                continue;
+            }
+            age[i] += step;
+            Vec2 position = bullets[i].getPosition();
+            if (recycleRequested[i] || age[i] > lifetime
+                    || position.x < minX || position.x > maxX || position.y < minY || position.y > maxY) {
+                park(i);
+            }
+        }
+    }
+
+    // Moves a bullet out of the level, each to its own spot so parked bullets never touch
+    private void park(int i) {
+        Bullets bullet = bullets[i];
+        bullet.setLinearVelocity(scratch.set(0, 0));
+        bullet.setPosition(scratch.set(PARK_X - i * PARK_SPACING, PARK_Y));
+        bullet.setVisible(false);
+        inFlight[i] = false;
+        recycleRequested[i] = false;
+        free[freeCount++] = i;
+    }
+}
@@ -1,17 +1,16 @@
 package game;
 import city.cs.engine.*;
 
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
-import java.io.IOException;
-
 /**
  * Represents bullet collectibles in the game world.
  *
  * <p>
  * This class extends {@link Collectible} and is responsible for creating bullet items in the game.
- * Each bullet has a small circular shape and an associated image. Upon creation, the bullet
- * immediately plays a sound effect, indicating it has been fired or activated.
+ * Each bullet has a small circular shape and an associated image, and handles its own hits with a
+ * {@link BulletCollision}. A bullet created on its own
+ * immediately plays a sound effect, indicating it has been fired or activated. Bullets fired by the player
+ * belong to the level's {@link BulletPool} instead; they are created once, play their sound each time they
+ * are launched and are handed back to the pool rather than destroyed.
  * </p>
  *
  * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
@@ -21,6 +20,10 @@ import java.io.IOException;
 public class Bullets extends Collectible{
     private static SoundClip bullet;
     private static final Shape bulletShape = new CircleShape(0.25f);
+    private final BulletPool pool;
+    private final int poolIndex;
+    private final BulletCollision collision = new BulletCollision(this);
+    private boolean released;
 
     /**
      * Constructs a new bullet collectible in the specified game world.
@@ -33,17 +36,77 @@ public class Bullets extends Collectible{
      * @param world The game world to which this bullet belongs.
      */
     public Bullets(World world) {
-        super(world, bulletShape,"data/Bullet.png",4f);
+        super(world, bulletShape,"data/Bullet.png",4f, CollisionLayer.PROJECTILE);
+        setBullet(true);
+        addCollisionListener(collision);
+        this.pool = null;
+        this.poolIndex = -1;
+        GameAudio.play(bullet);
+    }
+
+    /**
+     * Constructs a bullet owned by a bullet pool. The bullet is silent until it is launched.
+     *
+     * @param world The game world to which this bullet belongs.
+     * @param pool The pool that owns this bullet.
+     * @param poolIndex The bullet's slot in the pool.
+     */
+    Bullets(World world, BulletPool pool, int poolIndex) {
+        super(world, bulletShape,"data/Bullet.png",4f, CollisionLayer.PROJECTILE);
         setBullet(true);
-        bullet.play();
+        addCollisionListener(collision);
+        this.pool = pool;
+        this.poolIndex = poolIndex;
+    }
+
+    /**
+     * Shows the bullet and plays the firing sound. Called by the pool when the bullet is fired.
+     */
+    void launch() {
+        setVisible(true);
+        playShotSound();
+    }
+
+    /**
+     * Plays the gun shot sound, for shots that do not use a bullet body.
+     */
+    static void playShotSound() {
+        GameAudio.play(bullet);
+    }
+
+    /**
+     * Removes the bullet from play after it has hit something.
+     * A pooled bullet is handed back to its pool; any other bullet is destroyed at the end of the step.
+     */
+    public void release() {
+        if (pool != null) {
+            pool.recycle(this);
+        } else {
+            released = true;
+            DeferredQueue.destroy(this);
+        }
+    }
+
+    /**
+     * Checks whether the bullet is still flying and can hit something.
+     *
+     * @return false if the bullet is parked in its pool, or is waiting to be returned to it or destroyed.
+     */
+    public boolean isActive() {
+        return pool == null ? !released : pool.isInFlight(this);
+    }
+
+    /**
+     * Returns the bullet's slot in its pool.
+     *
+     * @return The slot index, or -1 if the bullet does not belong to a pool.
+     */
+    int getPoolIndex() {
+        return poolIndex;
     }
 
     // Static initializer to load the bullet sound effect.
     static {
-        try {
-            bullet = new SoundClip("data/Bullet.wav");
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            System.out.println(e);
-        }
+        bullet = GameAudio.load("data/Bullet.wav");
     }
 }
\ No newline at end of file
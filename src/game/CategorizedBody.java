@@ -0,0 +1,24 @@
+package game;
+
+/**
+ * A body that knows its own {@link CollisionLayer} category.
+ * <p>
+ * Contact listeners look up the category of the body they touched on every contact, so the category is kept
+ * on the body itself and read with a single call, instead of being looked up in a shared table. Every body the
+ * game builds implements this; a body that does not, such as the body of a {@link TriggerZone}, has the
+ * category {@link CollisionLayer#NONE} and is not passed on to any other body's listeners.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public interface CategorizedBody {
+
+    /**
+     * Returns the collision category of this body.
+     *
+     * @return One of the {@link CollisionLayer} category constants.
+     */
+    int getCategory();
+}
@@ -16,8 +16,9 @@ import city.cs.engine.*;
  * @version 1.0
  * @since 1.0
  */
-public abstract class Collectible extends DynamicBody {
-    private BodyImage image;
+public abstract class Collectible extends DynamicBody implements CategorizedBody {
+    private Sprite sprite;
+    private final int category;
 
     /**
      * Constructs a new collectible object within the specified game world.
@@ -33,9 +34,45 @@ public abstract class Collectible extends DynamicBody {
      * @param scale The scale factor for resizing the image relative to its original size.
      */
     public Collectible(World world, Shape shape, String imagePath, float scale) {
+        this(world, shape, imagePath, scale, CollisionLayer.PICKUP);
+    }
+
+    /**
+     * Constructs a new collectible object in a given collision category.
+     * <p>
+     * The collectible is solid whatever its category. The listeners that receive its contacts, such as the
+     * player's {@link ContactDispatcher}, use the category to skip contacts they do not care about.
+     * </p>
+     *
+     * @param world The game world where this collectible exists.
+     * @param shape The physical shape of the collectible for collision detection.
+     * @param imagePath The path to the image file for the visual representation of the collectible.
+     * @param scale The scale factor for resizing the image relative to its original size.
+     * @param category The {@link CollisionLayer} category of the collectible.
+     */
+    protected Collectible(World world, Shape shape, String imagePath, float scale, int category) {
         super(world, shape);
-        this.image = new BodyImage(imagePath, scale);
-        addImage(image);
+        this.category = category;
+        this.sprite = new Sprite(world, this, new SpriteImage(imagePath, scale));
         setGravityScale(0);
     }
+
+    /**
+     * Shows or hides the collectible's sprite without removing its body from the world.
+     *
+     * @param visible true to draw the collectible, false to hide it.
+     */
+    public void setVisible(boolean visible) {
+        sprite.setVisible(visible);
+    }
+
+    /**
+     * Returns the collision category the collectible was built with.
+     *
+     * @return {@link CollisionLayer#PICKUP} for a pickup, or the category given by a subclass.
+     */
+    @Override
+    public int getCategory() {
+        return category;
+    }
 }
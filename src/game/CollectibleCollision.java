@@ -7,7 +7,8 @@ import city.cs.engine.*;
  * <p>
  * This abstract class implements {@link CollisionListener} to define common functionality for collision
  * events involving collectible items. Specific types of collectibles can extend this class to implement
- * their unique collision behaviors. It stores references to the player and the collectible involved in
+ * their unique collision behaviors, either as a listener of their own or as a {@link ContactHandler} registered
+ * with the level's {@link ContactDispatcher}. It stores references to the player and the collectible involved in
  * the collision, which are essential for determining the outcomes of collision events.
  * </p>
  *
@@ -15,7 +16,7 @@ import city.cs.engine.*;
  * @version 1.0
  * @since 1.0
  */
-public abstract class CollectibleCollision implements CollisionListener {
+public abstract class CollectibleCollision implements CollisionListener, ContactHandler {
     protected Player player;
     protected Collectible collectible;
 
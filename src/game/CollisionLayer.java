@@ -0,0 +1,144 @@
+package game;
+
+import city.cs.engine.*;
+
+/**
+ * The collision categories of the game's bodies and which categories each one needs to meet.
+ * <p>
+ * Every body the game builds is a {@link CategorizedBody} with one category: player, enemy, flying enemy,
+ * projectile, pickup, door or static geometry. Any other body, such as the body of a {@link TriggerZone}, is
+ * in no category and is in no mask. Each category has a mask listing the categories whose contacts mean something
+ * to it; a pickup, for example, only cares about the player, and a projectile only about enemies, doors and
+ * level geometry. Contacts between categories outside each other's masks are ignored.
+ * </p>
+ * <p>
+ * The engine does not let the game set the physics filter bits of a fixture, so every body keeps its solid
+ * fixtures and the engine still reports every contact. The collision listeners, the player's
+ * {@link ContactDispatcher} and each bullet's {@link BulletCollision}, use the mask to skip contacts they do
+ * not care about before any work is queued for them.
+ * </p>
+ * <p>
+ * Filtering is on by default. Running the game with {@code -Dgame.nofilter=true}, or calling
+ * {@link #setFilteringEnabled(boolean)}, passes every contact on, as before, so the two can be compared.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public final class CollisionLayer {
+    /** Bodies that are not {@link CategorizedBody categorized}, which no mask includes. */
+    public static final int NONE = 0;
+    /** The player character. */
+    public static final int PLAYER = 1;
+    /** Walking enemies. */
+    public static final int ENEMY = 1 << 1;
+    /** Flying enemies. */
+    public static final int FLYING_ENEMY = 1 << 2;
+    /** Bullets fired by the player. */
+    public static final int PROJECTILE = 1 << 3;
+    /** Guns, potions, armour and keys. */
+    public static final int PICKUP = 1 << 4;
+    /** Portals, doors and the diamond. */
+    public static final int DOOR = 1 << 5;
+    /** Ground, walls and platforms. */
+    public static final int STATIC = 1 << 6;
+
+    private static boolean filtering = !Boolean.getBoolean("game.nofilter");
+    private static long accepted, rejected;
+
+    private CollisionLayer() {
+    }
+
+    /**
+     * Returns the categories a category needs to meet.
+     *
+     * @param category One of the category constants.
+     * @return The mask of categories whose contacts are passed on.
+     */
+    public static int mask(int category) {
+        switch (category) {
+            case PLAYER:
+                return ENEMY | FLYING_ENEMY | PICKUP | DOOR | STATIC;
+            case ENEMY:
+                return PLAYER | ENEMY | PROJECTILE | DOOR | STATIC;
+            case FLYING_ENEMY:
+                return PLAYER | PROJECTILE | STATIC;
+            case PROJECTILE:
+                return ENEMY | FLYING_ENEMY | DOOR | STATIC;
+            case PICKUP:
+                return PLAYER;
+            case DOOR:
+                return PLAYER | ENEMY | PROJECTILE;
+            case STATIC:
+                return PLAYER | ENEMY | FLYING_ENEMY | PROJECTILE;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Returns the category of a body.
+     *
+     * @param body The body.
+     * @return The body's category, or {@link #NONE} if it is not a {@link CategorizedBody}.
+     */
+    public static int categoryOf(Body body) {
+        return body instanceof CategorizedBody ? ((CategorizedBody) body).getCategory() : NONE;
+    }
+
+    /**
+     * Checks whether a body of one category should be told about a contact with another body.
+     *
+     * @param category The category of the body receiving the contact.
+     * @param other The body it touched.
+     * @return true if filtering is off or the other body's category is in the mask.
+     */
+    public static boolean accepts(int category, Body other) {
+        if (!filtering) {
+            return true;
+        }
+        if ((mask(category) & categoryOf(other)) != 0) {
+            accepted++;
+            return true;
+        }
+        rejected++;
+        return false;
+    }
+
+    /**
+     * Checks whether listeners skip contacts outside their body's mask.
+     *
+     * @return true if filtering is on.
+     */
+    public static boolean isFilteringEnabled() {
+        return filtering;
+    }
+
+    /**
+     * Switches filtering on or off.
+     *
+     * @param enabled true to filter contacts by category.
+     */
+    public static void setFilteringEnabled(boolean enabled) {
+        filtering = enabled;
+    }
+
+    /**
+     * Returns the number of contacts passed on because the other body was in the mask.
+     *
+     * @return The accepted contact count.
+     */
+    public static long getAcceptedCount() {
+        return accepted;
+    }
+
+    /**
+     * Returns the number of contacts dropped because the other body was outside the mask.
+     *
+     * @return The rejected contact count.
+     */
+    public static long getRejectedCount() {
+        return rejected;
+    }
+}
@@ -0,0 +1,99 @@
+package game;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Creates and loads images in a pixel format that matches the display.
+ * <p>
+ * Images returned by this class are laid out the same way as the screen surface, so Java2D can copy them
+ * with a plain blit instead of converting every pixel on each draw. When no display is available (for
+ * example when a level is run headless) a premultiplied ARGB image is used instead, which is the format
+ * Java2D converts to fastest.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public final class CompatibleImages {
+
+    private CompatibleImages() {
+    }
+
+    /**
+     * Creates an empty image compatible with the default screen.
+     *
+     * @param width The width of the image in pixels.
+     * @param height The height of the image in pixels.
+     * @param transparency One of {@link Transparency#OPAQUE}, {@link Transparency#BITMASK} or {@link Transparency#TRANSLUCENT}.
+     * @return A new image of the given size.
+     */
+    public static BufferedImage create(int width, int height, int transparency) {
+        width = Math.max(1, width);
+        height = Math.max(1, height);
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            return gc.createCompatibleImage(width, height, transparency);
+        }
+        int type = transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE;
+        return new BufferedImage(width, height, type);
+    }
+
+    /**
+     * Copies an image into a new compatible image of the given size, scaling it once.
+     *
+     * @param source The image to copy.
+     * @param width The width of the copy in pixels.
+     * @param height The height of the copy in pixels.
+     * @return A translucent compatible image containing the scaled source.
+     */
+    public static BufferedImage scaled(Image source, int width, int height) {
+        BufferedImage copy = create(width, height, Transparency.TRANSLUCENT);
+        Graphics2D g = copy.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+        return copy;
+    }
+
+    /**
+     * Loads an image file and converts it into a compatible image of the given size.
+     * <p>
+     * If the file cannot be read the error is printed and an empty image of the requested size is
+     * returned, so callers can always draw the result.
+     * </p>
+     *
+     * @param path The path to the image file.
+     * @param width The width of the loaded image in pixels.
+     * @param height The height of the loaded image in pixels.
+     * @return The scaled compatible image.
+     */
+    public static BufferedImage load(String path, int width, int height) {
+        try {
+            BufferedImage source = ImageIO.read(new File(path));
+            if (source != null) {
+                return scaled(source, width, height);
+            }
+            System.out.println("Unsupported image format: " + path);
+        } catch (IOException e) {
+            System.out.println(e);
+        }
+        return create(width, height, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * Returns the number of bytes used by the pixel data of an image.
+     *
+     * @param image The image to measure.
+     * @return The size of the image's raster in bytes.
+     */
+    public static long sizeInBytes(BufferedImage image) {
+        int bitsPerPixel = image.getColorModel().getPixelSize();
+        return (long) image.getWidth() * image.getHeight() * ((bitsPerPixel + 7) / 8);
+    }
+}
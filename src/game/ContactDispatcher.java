@@ -0,0 +1,153 @@
+package game;
+
+import city.cs.engine.*;
+
+import java.util.*;
+
+/**
+ * The single collision listener on the player, passing each contact to the handler for the other body's type.
+ * <p>
+ * Instead of attaching one {@link CollisionListener} per kind of pickup or enemy to the player, each of which
+ * checks the type of every body the player touches, a level registers a {@link ContactHandler} here for each
+ * class of body it cares about. When the player touches something, the dispatcher looks up the other body's
+ * class in a table and calls only the handlers registered for it, so the cost of a contact does not grow
+ * with the number of pickup kinds in the level.
+ * </p>
+ * <p>
+ * A handler registered for a class also receives contacts with its subclasses; a handler for
+ * {@link Doorway}, for example, handles both {@link Portal} and {@link Door}. The first contact with a new
+ * class walks up its superclasses to find the handlers, and the result is kept so later contacts are a single
+ * table lookup. The number of contacts is counted for each registered type and for bodies with no handler.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class ContactDispatcher implements CollisionListener, ContactHandler {
+
+    // The handlers and contact count of one registered type
+    private static final class Entry {
+        private final Class<?> type;
+        private ContactHandler[] handlers = new ContactHandler[0];
+        private long contacts;
+
+        private Entry(Class<?> type) {
+            this.type = type;
+        }
+    }
+
+    private static final Entry NONE = new Entry(Body.class);
+
+    private final Map<Class<?>, Entry> registered = new LinkedHashMap<>();
+    private final Map<Class<?>, Entry> resolved = new HashMap<>();
+    private long unhandled;
+
+    /**
+     * Registers a handler for contacts between the player and bodies of a class, or of any of its subclasses.
+     * A type may have several handlers, which are called in the order they were registered.
+     *
+     * @param type The class of body the handler deals with.
+     * @param handler The handler to call.
+     */
+    public void register(Class<? extends Body> type, ContactHandler handler) {
+        Entry entry = registered.get(type);
+        if (entry == null) {
+            entry = new Entry(type);
+            registered.put(type, entry);
+        }
+        entry.handlers = Arrays.copyOf(entry.handlers, entry.handlers.length + 1);
+        entry.handlers[entry.handlers.length - 1] = handler;
+        resolved.clear();
+    }
+
+    /**
+     * Queues a player contact for the handlers registered for the other body's type, unless the other body's
+     * {@link CollisionLayer} category is outside the player's mask. The handlers are called at the end of the
+     * step by the level's {@link DeferredQueue}.
+     *
+     * @param e The event details of the collision.
+     */
+    @Override
+    public void collide(CollisionEvent e) {
+        if (CollisionLayer.accepts(CollisionLayer.PLAYER, e.getOtherBody())) {
+            DeferredQueue.post(e.getOtherBody().getWorld(), this, e.getOtherBody());
+        }
+    }
+
+    /**
+     * Dispatches a contact that was held back until the end of the step.
+     *
+     * @param other The body the player touched.
+     */
+    @Override
+    public void handle(Body other) {
+        dispatch(other);
+    }
+
+    /**
+     * Passes a contact with a body to the handlers registered for its type.
+     *
+     * @param other The body the player touched.
+     */
+    public void dispatch(Body other) {
+        Class<?> type = other.getClass();
+        Entry entry = resolved.get(type);
+        if (entry == null) {
+            entry = resolve(type);
+            resolved.put(type, entry);
+        }
+        if (entry == NONE) {
+            unhandled++;
+            return;
+        }
+        entry.contacts++;
+        for (ContactHandler handler : entry.handlers) {
+            handler.handle(other);
+        }
+    }
+
+    /**
+     * Returns the number of player contacts with bodies of a registered type.
+     *
+     * @param type A class that handlers were registered for.
+     * @return The number of contacts passed to that type's handlers, or 0 if the type is not registered.
+     */
+    public long getContactCount(Class<? extends Body> type) {
+        Entry entry = registered.get(type);
+        return entry == null ? 0 : entry.contacts;
+    }
+
+    /**
+     * Returns the number of player contacts with bodies that no handler was registered for, such as platforms.
+     *
+     * @return The number of unhandled contacts.
+     */
+    public long getUnhandledCount() {
+        return unhandled;
+    }
+
+    /**
+     * Returns the contact count of every registered type, in registration order.
+     *
+     * @return A new map from registered class to its contact count.
+     */
+    public Map<Class<?>, Long> getContactCounts() {
+        Map<Class<?>, Long> counts = new LinkedHashMap<>();
+        for (Entry entry : registered.values()) {
+            counts.put(entry.type, entry.contacts);
+        }
+        return counts;
+    }
+
+    // Finds the nearest registered superclass of a body class
+    private Entry resolve(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            Entry entry = registered.get(c);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return NONE;
+    }
+}
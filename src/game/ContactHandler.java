@@ -0,0 +1,25 @@
+package game;
+
+import city.cs.engine.*;
+
+/**
+ * Reacts to the player touching one kind of body.
+ * <p>
+ * Handlers are registered with a {@link ContactDispatcher} for the class of body they deal with, such as
+ * {@link Enemy} or {@link Key}. The dispatcher only calls a handler when the player touches a body of that
+ * class, so a handler does not need to check the type of the other body itself.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public interface ContactHandler {
+
+    /**
+     * Called when the player touches a body of the type this handler was registered for.
+     *
+     * @param other The body the player touched.
+     */
+    void handle(Body other);
+}
@@ -0,0 +1,212 @@
+package game;
+
+import city.cs.engine.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Holds back contact handling and body destruction until the end of each physics step.
+ * <p>
+ * Each {@link GameLevel} owns one queue, stepped with the world. Collision and sensor listeners do not act on
+ * a contact straight away; they post the contact, with the {@link ContactHandler} that should deal with it,
+ * and the queue hands all contacts of the step to their handlers together in {@code postStep}. Bodies that
+ * have to go, such as collected pickups and killed enemies, are likewise marked for destruction with
+ * {@link #destroy(Body)} and are all destroyed once every contact of the step has been handled. No body is
+ * destroyed while the engine is still resolving contacts, and a contact with a body that has already been
+ * marked for destruction in the same step is dropped.
+ * </p>
+ * <p>
+ * The queue records the largest number of contacts and destructions seen in a single step, which shows how
+ * bursty mass kills are.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class DeferredQueue implements StepListener {
+    private static final int INITIAL_CAPACITY = 32;
+
+    private ContactHandler[] handlers = new ContactHandler[INITIAL_CAPACITY];
+    private Body[] others = new Body[INITIAL_CAPACITY];
+    private int eventCount;
+
+    private Body[] doomed = new Body[INITIAL_CAPACITY];
+    private int doomedCount;
+    private final Set<Body> doomedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private int maxEventsPerStep, maxDestroysPerStep;
+    private long totalEvents, totalDestroys;
+
+    /**
+     * Returns the queue of the level a world belongs to.
+     *
+     * @param world The world to look up.
+     * @return The level's queue, or {@code null} if the world is not a {@link GameLevel}.
+     */
+    public static DeferredQueue of(World world) {
+        if (world instanceof GameLevel) {
+            return ((GameLevel) world).getDeferred();
+        }
+        return null;
+    }
+
+    /**
+     * Posts a contact to the queue of a world, or handles it at once if the world has no queue.
+     *
+     * @param world The world the contact happened in.
+     * @param handler The handler that should deal with the contact.
+     * @param other The body that was touched.
+     */
+    public static void post(World world, ContactHandler handler, Body other) {
+        DeferredQueue queue = of(world);
+        if (queue == null) {
+            handler.handle(other);
+        } else {
+            queue.post(handler, other);
+        }
+    }
+
+    /**
+     * Marks a body to be destroyed at the end of the current step, or destroys it at once if its world has
+     * no queue. Marking a body more than once has no further effect.
+     *
+     * @param body The body to destroy.
+     */
+    public static void destroy(Body body) {
+        DeferredQueue queue = of(body.getWorld());
+        if (queue == null) {
+            body.destroy();
+        } else {
+            queue.destroyLater(body);
+        }
+    }
+
+    /**
+     * Posts a contact to be handled at the end of the current step.
+     *
+     * @param handler The handler that should deal with the contact.
+     * @param other The body that was touched.
+     */
+    public synchronized void post(ContactHandler handler, Body other) {
+        if (eventCount == handlers.length) {
+            handlers = Arrays.copyOf(handlers, eventCount * 2);
+            others = Arrays.copyOf(others, eventCount * 2);
+        }
+        handlers[eventCount] = handler;
+        others[eventCount] = other;
+        eventCount++;
+    }
+
+    /**
+     * Marks a body to be destroyed at the end of the current step.
+     *
+     * @param body The body to destroy.
+     */
+    public synchronized void destroyLater(Body body) {
+        if (!doomedSet.add(body)) {
+            return;
+        }
+        if (doomedCount == doomed.length) {
+            doomed = Arrays.copyOf(doomed, doomedCount * 2);
+        }
+        doomed[doomedCount++] = body;
+    }
+
+    /**
+     * Checks whether a body has been marked for destruction in the current step.
+     *
+     * @param body The body to check.
+     * @return true if the body will be destroyed at the end of the step.
+     */
+    public synchronized boolean isDoomed(Body body) {
+        return doomedSet.contains(body);
+    }
+
+    /**
+     * No action taken before the physics step.
+     * @param e The event details of the pre-step phase.
+     */
+    @Override
+    public void preStep(StepEvent e) {
+    }
+
+    /**
+     * Handles every contact posted during the step, then destroys every body marked for destruction.
+     *
+     * @param e The event details of the post-step phase.
+     */
+    @Override
+    public void postStep(StepEvent e) {
+        flush();
+    }
+
+    /**
+     * Handles every posted contact, then destroys every body marked for destruction.
+     */
+    public synchronized void flush() {
+        int events = eventCount;
+        for (int i = 0; i < eventCount; i++) {
+            ContactHandler handler = handlers[i];
+            Body other = others[i];
+            handlers[i] = null;
+            others[i] = null;
+            if (!doomedSet.contains(other)) {
+                handler.handle(other);
+            }
+        }
+        eventCount = 0;
+
+        int destroys = doomedCount;
+        for (int i = 0; i < doomedCount; i++) {
+            doomed[i].destroy();
+            doomed[i] = null;
+        }
+        doomedCount = 0;
+        doomedSet.clear();
+
+        totalEvents += events;
+        totalDestroys += destroys;
+        maxEventsPerStep = Math.max(maxEventsPerStep, events);
+        maxDestroysPerStep = Math.max(maxDestroysPerStep, destroys);
+    }
+
+    /**
+     * Returns the number of contacts handled through this queue.
+     *
+     * @return The total contact count.
+     */
+    public long getTotalEvents() {
+        return totalEvents;
+    }
+
+    /**
+     * Returns the number of bodies destroyed through this queue.
+     *
+     * @return The total destruction count.
+     */
+    public long getTotalDestroys() {
+        return totalDestroys;
+    }
+
+    /**
+     * Returns the largest number of contacts handled at the end of a single step.
+     *
+     * @return The peak contacts per step.
+     */
+    public int getMaxEventsPerStep() {
+        return maxEventsPerStep;
+    }
+
+    /**
+     * Returns the largest number of bodies destroyed at the end of a single step.
+     *
+     * @return The peak destructions per step.
+     */
+    public int getMaxDestroysPerStep() {
+        return maxDestroysPerStep;
+    }
+}
@@ -26,6 +26,6 @@ public class Diamond extends Doorway {
      * @param world The game world where this diamond will exist.
      */
     public Diamond(World world) {
-        super(world, new CircleShape(3f), "data/Diamond.gif", 15f);
+        super(world, LevelGeometry.Outline.circle(3f), "data/Diamond.gif", 15f);
     }
 }
@@ -14,7 +14,7 @@ import city.cs.engine.*;
  * @version 1.0
  * @since 1.0
  */
-public class DiamondCollision implements CollisionListener {
+public class DiamondCollision implements CollisionListener, ContactHandler {
     private Game game;
 
     /**
@@ -24,7 +24,7 @@ public class DiamondCollision implements CollisionListener {
      * such as winning the game, in response to collision events.
      * </p>
      *
-     * @param game The game instance in which the collision events are to be handled.
+     * @param game The game instance in which the collision events are to be handled, or null when the level runs headless.
      */
     public DiamondCollision(Game game) {
         this.game = game;
@@ -42,8 +42,20 @@ public class DiamondCollision implements CollisionListener {
     @Override
     public void collide(CollisionEvent e) {
         if (e.getOtherBody() instanceof Diamond) {
-            game.GameWon();  // Assumes GameWon is a method that handles winning the game.
-            e.getOtherBody().destroy();
+            handle(e.getOtherBody());
         }
     }
+
+    /**
+     * Wins the game and removes the diamond when the player collects it.
+     *
+     * @param other The body the player touched.
+     */
+    @Override
+    public void handle(Body other) {
+        if (game != null) {
+            game.requestGameWon();  // The game is won once the current step has finished.
+        }
+        DeferredQueue.destroy(other);
+    }
 }
@@ -2,10 +2,6 @@ package game;
 
 import city.cs.engine.*;
 
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
-import java.io.IOException;
-
 /**
  * Represents a door in the game that can be interacted with by the player.
  * <p>
@@ -31,16 +27,12 @@ public class Door extends Doorway {
      * @param world The game world where this door will exist.
      */
     public Door(World world) {
-        super(world, new BoxShape(1.5f, 8), "data/door.png", 11f);
+        super(world, LevelGeometry.Outline.box(1.5f, 8), "data/door.png", 11f);
     }
 
     // Static initializer to load the door sound effect.
     static {
-        try {
-            door = new SoundClip("data/Door.wav");
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            System.out.println(e);
-        }
+        door = GameAudio.load("data/Door.wav");
     }
 
     /**
@@ -52,7 +44,7 @@ public class Door extends Doorway {
      */
     @Override
     public void destroy() {
-        door.play();
+        GameAudio.play(door);
         super.destroy();
     }
 }
@@ -15,8 +15,8 @@ import city.cs.engine.*;
  * @version 1.0
  * @since 1.0
  */
-public abstract class Doorway extends StaticBody {
-    private BodyImage image;
+public abstract class Doorway extends StaticBody implements CategorizedBody {
+    private Sprite sprite;
 
     /**
      * Constructs a new Doorway object within the specified game world.
@@ -26,13 +26,27 @@ public abstract class Doorway extends StaticBody {
      * </p>
      *
      * @param world The game world where this doorway exists.
-     * @param shape The physical shape of the doorway for collision detection and physical presence in the game world.
+     * @param outline The physical shape of the doorway for collision detection and physical presence in the game world,
+     *                with the box around it, which stops hitscan shots as the shape stops bullets.
      * @param imagePath The path to the image file for the visual representation of the doorway.
      * @param scale The scale factor for resizing the image relative to its original size, affecting its display size in the game.
      */
-    public Doorway(World world, Shape shape, String imagePath, float scale) {
-        super(world, shape);
-        this.image = new BodyImage(imagePath, scale);
-        addImage(image);
+    public Doorway(World world, LevelGeometry.Outline outline, String imagePath, float scale) {
+        super(world, outline.getShape());
+        LevelGeometry geometry = LevelGeometry.of(world);
+        if (geometry != null) {
+            geometry.addSolid(this, outline);
+        }
+        this.sprite = new Sprite(world, this, new SpriteImage(imagePath, scale));
+    }
+
+    /**
+     * Returns the collision category of a doorway.
+     *
+     * @return {@link CollisionLayer#DOOR}.
+     */
+    @Override
+    public int getCategory() {
+        return CollisionLayer.DOOR;
     }
 }
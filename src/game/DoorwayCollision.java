@@ -6,7 +6,8 @@ import city.cs.engine.*;
  * Handles collision events with doorways to trigger level transitions in the game.
  * <p>
  * This class implements {@link CollisionListener} to respond to collisions between a player and a doorway object.
- * It checks if the current level is complete and if so, triggers the transition to the next level in the game.
+ * It checks if the current level is complete and if so, asks the game to move to the next level once the
+ * current physics step has finished.
  * This mechanism is vital for progressing through different stages or levels in the game environment.
  * </p>
  *
@@ -14,7 +15,7 @@ import city.cs.engine.*;
  * @version 1.0
  * @since 1.0
  */
-public class DoorwayCollision implements CollisionListener {
+public class DoorwayCollision implements CollisionListener, ContactHandler {
     private GameLevel level;
     private Game game;
 
@@ -27,7 +28,7 @@ public class DoorwayCollision implements CollisionListener {
      * </p>
      *
      * @param level The current level of the game where the doorway exists.
-     * @param game The main game object that controls the game states and levels.
+     * @param game The main game object that controls the game states and levels, or null when the level runs headless.
      */
     public DoorwayCollision(GameLevel level, Game game) {
         this.level = level;
@@ -46,9 +47,21 @@ public class DoorwayCollision implements CollisionListener {
      */
     @Override
     public void collide(CollisionEvent e) {
-        if (e.getOtherBody() instanceof Doorway && level.isComplete()) {
-            game.goToNextLevel();
-            e.getOtherBody().destroy();
+        if (e.getOtherBody() instanceof Doorway) {
+            handle(e.getOtherBody());
+        }
+    }
+
+    /**
+     * Moves on to the next level if the player reaches a doorway once the level is complete.
+     *
+     * @param other The body the player touched.
+     */
+    @Override
+    public void handle(Body other) {
+        if (level.isComplete() && game != null) {
+            game.requestNextLevel();
+            DeferredQueue.destroy(other);
         }
     }
 }
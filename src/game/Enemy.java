@@ -2,10 +2,6 @@ package game;
 
 import city.cs.engine.*;
 
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
-import java.io.IOException;
-
 /**
  * Represents an enemy character in the game, specifically a zombie.
  * <p>
@@ -19,16 +15,21 @@ import java.io.IOException;
  * @version 1.0
  * @since 1.0
  */
-public class Enemy extends Walker {
+public class Enemy extends Walker implements CategorizedBody {
+
+    private static final LevelGeometry.Outline outline = LevelGeometry.Outline.box(1, 2);
 
-    private static final Shape enemyShape = new BoxShape(1, 2);
+    /** How much more strongly than other bodies an enemy is pulled down by the world's gravity. */
+    public static final float GRAVITY_SCALE = 2;
 
-    private static final BodyImage Right =
-            new BodyImage("data/ZombieRight.gif", 4f);
+    private static final SpriteImage Right =
+            new SpriteImage("data/ZombieRight.gif", 4f);
 
-    private static final BodyImage Left =
-            new BodyImage("data/ZombieLeft.gif", 4f);
+    private static final SpriteImage Left =
+            new SpriteImage("data/ZombieLeft.gif", 4f);
 
+    private final Sprite sprite;
+    private boolean facingRight = true;
     private int health;
     private static int enemyCount = 0;
     private static SoundClip enemyDeath;
@@ -43,26 +44,45 @@ public class Enemy extends Walker {
      * @param world The game world where this enemy exists.
      */
     public Enemy(World world) {
-        super(world, enemyShape);
-        addImage(Right);
-        setGravityScale(2);
+        super(world, outline.getShape());
+        sprite = new Sprite(world, this, Right);
+        setGravityScale(GRAVITY_SCALE);
         health = 3;
+        LevelGeometry geometry = LevelGeometry.of(world);
+        if (geometry != null) {
+            geometry.addTarget(this, outline);
+        }
     }
 
     /**
      * Switches the enemy's image to the right-facing orientation.
+     * Nothing changes if the enemy is already facing right.
      */
     public void flipRight() {
-        removeAllImages();
-        addImage(Right);
+        if (!facingRight) {
+            facingRight = true;
+            sprite.setImage(Right);
+        }
     }
 
     /**
      * Switches the enemy's image to the left-facing orientation.
+     * Nothing changes if the enemy is already facing left.
      */
     public void flipLeft() {
-        removeAllImages();
-        addImage(Left);
+        if (facingRight) {
+            facingRight = false;
+            sprite.setImage(Left);
+        }
+    }
+
+    /**
+     * Checks which way the enemy is facing.
+     *
+     * @return true if the enemy faces right, false if it faces left.
+     */
+    public boolean isFacingRight() {
+        return facingRight;
     }
 
     /**
@@ -111,11 +131,7 @@ public class Enemy extends Walker {
 
     // Static initializer to load the death sound effect for the enemy.
     static {
-        try {
-            enemyDeath = new SoundClip("data/ZombieDeath.wav");
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            System.out.println(e);
-        }
+        enemyDeath = GameAudio.load("data/ZombieDeath.wav");
     }
 
     /**
@@ -123,7 +139,17 @@ public class Enemy extends Walker {
      */
     @Override
     public void destroy() {
-        enemyDeath.play();
+        GameAudio.play(enemyDeath);
         super.destroy();
     }
+
+    /**
+     * Returns the collision category of a walking enemy.
+     *
+     * @return {@link CollisionLayer#ENEMY}.
+     */
+    @Override
+    public int getCategory() {
+        return CollisionLayer.ENEMY;
+    }
 }
@@ -15,7 +15,7 @@ import city.cs.engine.*;
  * @version 1.0
  * @since 1.0
  */
-public class EnemyCollision implements CollisionListener {
+public class EnemyCollision implements CollisionListener, ContactHandler {
     private Player player;
 
     /**
@@ -45,11 +45,21 @@ public class EnemyCollision implements CollisionListener {
     @Override
     public void collide(CollisionEvent e) {
         if (e.getOtherBody() instanceof Enemy) {
-            if (player.getArmour() == 1) {
-                player.decreaseArmour();
-            } else {
-                player.decreaseHealth();
-            }
+            handle(e.getOtherBody());
+        }
+    }
+
+    /**
+     * Applies an enemy hit to the player, taking armour before health.
+     *
+     * @param other The body the player touched.
+     */
+    @Override
+    public void handle(Body other) {
+        if (player.getArmour() == 1) {
+            player.decreaseArmour();
+        } else {
+            player.decreaseHealth();
         }
     }
 }
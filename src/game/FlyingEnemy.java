@@ -3,10 +3,6 @@ package game;
 import city.cs.engine.*;
 import org.jbox2d.common.Vec2;
 
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
-import java.io.IOException;
-
 /**
  * Represents a flying enemy in the game that actively follows the player.
  * <p>
@@ -19,11 +15,13 @@ import java.io.IOException;
  * @version 1.0
  * @since 1.0
  */
-public class FlyingEnemy extends Walker {
+public class FlyingEnemy extends Walker implements CategorizedBody {
 
-    private static final Shape enemyShape = new CircleShape(1f);
-    private static final BodyImage image = new BodyImage("data/FlyingEnemy.gif", 10f);
+    private static final LevelGeometry.Outline outline = LevelGeometry.Outline.circle(1f);
+    private static final SpriteImage image = new SpriteImage("data/FlyingEnemy.gif", 10f);
 
+    private final Sprite sprite;
+    private final Vec2 velocity = new Vec2();
     private Player player;
     private float speed;
     private int health;
@@ -42,12 +40,16 @@ public class FlyingEnemy extends Walker {
      * @param speed The speed at which the flying enemy moves towards the player.
      */
     public FlyingEnemy(World world, Player player, float speed) {
-        super(world, enemyShape);
+        super(world, outline.getShape());
         this.player = player;
         this.speed = speed;
-        addImage(image);
+        sprite = new Sprite(world, this, image);
         setGravityScale(0);
         health = 10;
+        LevelGeometry geometry = LevelGeometry.of(world);
+        if (geometry != null) {
+            geometry.addTarget(this, outline);
+        }
     }
 
     /**
@@ -55,7 +57,8 @@ public class FlyingEnemy extends Walker {
      * <p>
      * This method calculates the vector from the flying enemy to the player and sets the
      * enemy's velocity to move towards the player at the defined speed, allowing for dynamic
-     * following and engagement.
+     * following and engagement. The direction is normalised directly and the velocity vector
+     * is reused, so following the player does not allocate.
      * </p>
      */
     public void followPlayer() {
@@ -64,11 +67,14 @@ public class FlyingEnemy extends Walker {
         float deltaY = playerPosition.y - enemyPosition.y;
         float deltaX = playerPosition.x - enemyPosition.x;
 
-        float angle = (float) Math.atan2(deltaY, deltaX);
-        float vx = speed * (float) Math.cos(angle);
-        float vy = speed * (float) Math.sin(angle);
+        float length = (float) Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+        if (length > 0) {
+            velocity.set(deltaX * speed / length, deltaY * speed / length);
+        } else {
+            velocity.set(speed, 0); // Same direction atan2 gives when on top of the player
+        }
 
-        setLinearVelocity(new Vec2(vx, vy));
+        setLinearVelocity(velocity);
     }
 
     /**
@@ -124,11 +130,7 @@ public class FlyingEnemy extends Walker {
 
     // Static initializer to load the sound effect for the flying enemy's death.
     static {
-        try {
-            FlyingEnemyDeath = new SoundClip("data/FlyingEnemyDeath.wav");
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            System.out.println(e);
-        }
+        FlyingEnemyDeath = GameAudio.load("data/FlyingEnemyDeath.wav");
     }
 
     /**
@@ -136,7 +138,17 @@ public class FlyingEnemy extends Walker {
      */
     @Override
     public void destroy() {
-        FlyingEnemyDeath.play();
+        GameAudio.play(FlyingEnemyDeath);
         super.destroy();
     }
+
+    /**
+     * Returns the collision category of a flying enemy.
+     *
+     * @return {@link CollisionLayer#FLYING_ENEMY}.
+     */
+    @Override
+    public int getCategory() {
+        return CollisionLayer.FLYING_ENEMY;
+    }
 }
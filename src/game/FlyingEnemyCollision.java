@@ -15,7 +15,7 @@ import city.cs.engine.*;
  * @version 1.0
  * @since 1.0
  */
-public class FlyingEnemyCollision implements CollisionListener {
+public class FlyingEnemyCollision implements CollisionListener, ContactHandler {
     private Player player;
 
     /**
@@ -46,11 +46,21 @@ public class FlyingEnemyCollision implements CollisionListener {
     @Override
     public void collide(CollisionEvent e) {
         if (e.getOtherBody() instanceof FlyingEnemy) {
-            if (player.getArmour() == 1) {
-                player.decreaseArmour();
-            } else {
-                player.decreaseHealth();
-            }
+            handle(e.getOtherBody());
+        }
+    }
+
+    /**
+     * Applies a flying enemy hit to the player, taking armour before health.
+     *
+     * @param other The body the player touched.
+     */
+    @Override
+    public void handle(Body other) {
+        if (player.getArmour() == 1) {
+            player.decreaseArmour();
+        } else {
+            player.decreaseHealth();
         }
     }
 }
@@ -8,6 +8,7 @@ import javax.swing.*;
 import city.cs.engine.*;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
 
 /**
@@ -17,6 +18,10 @@ import java.io.IOException;
  * It creates the game environment, initializes UI components like controls and instructions, and handles the player's
  * interactions and movements. Additionally, it controls the background music and sound effects based on game events.
  * </p>
+ * <p>
+ * Running the game with {@code -Dgame.timings=true} prints how long each phase of every level change took,
+ * together with how long the {@link LevelLoader} took to prepare the new level in the background.
+ * </p>
  *
  * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
  * @version 1.0
@@ -24,6 +29,9 @@ import java.io.IOException;
  */
 
 public class Game {
+    // Whether the timings of every level change are printed, set with -Dgame.timings=true
+    private static final boolean PRINT_TIMINGS = Boolean.getBoolean("game.timings");
+
     private GameLevel currentLevel;
     private Player player;
     private PlayerController playerController;
@@ -32,20 +40,27 @@ public class Game {
     private SoundClip gametheme1, gametheme2, gametheme3, gamewon;
     private JFrame frame;
     private JList<String> controlsList, instructionsList;
+    private final GameCommands commands = new GameCommands();
+    private PhaseTimer lastTransition, lastPreload;
+    private final LevelLoader loader = new LevelLoader();
 
     /**
      * Constructs the main game setup, initializes the game environment, levels, player, and UI components.
      */
     public Game() {
+        // Decode and pack all sprite images before the first level is built
+        SpriteAtlas.preload();
+
         // Create the game world
         currentLevel = new Level1(this);
+        currentLevel.enter();
 
         player = currentLevel.getPlayer();
 
         playerController = new PlayerController(player, 10, 19);
 
         // Create a view to look into the game world
-        view = new GameView(currentLevel, player, 1200, 800);
+        view = new GameView(currentLevel, 1200, 800);
 
         // Create a JFrame and add the game view to it
         frame = new JFrame("City Game");
@@ -88,72 +103,147 @@ public class Game {
 
         // Start the game world simulation
         currentLevel.start();
+
+        // Build the next level in the background while this one is played
+        preloadNextLevel();
     }
 
     /**
-     * Transitions the game to the next level based on the current level instance.
+     * Starts building the level after the current one on the {@link LevelLoader}'s thread.
+     * Does nothing on the last level.
      */
-    public void goToNextLevel(){
-        if (currentLevel instanceof Level1){
-            ((Level1) currentLevel).destroyLevelObjects();
-            currentLevel.stop();
+    private void preloadNextLevel() {
+        if (currentLevel instanceof Level1) {
+            loader.preload(() -> new Level2(this), "data/factory1.jpg", view.getWidth(), view.getHeight());
+        } else if (currentLevel instanceof Level2) {
+            loader.preload(() -> new Level3(this), "data/factory2.jpeg", view.getWidth(), view.getHeight());
+        }
+    }
 
-            //gametheme1.stop();
-            //gametheme2.loop();
+    /**
+     * Asks for the game to move to the next level once the current physics step has finished.
+     * Safe to call from collision handlers; asking again before the change has happened has no effect.
+     */
+    public void requestNextLevel() {
+        commands.post("next level", this::goToNextLevel);
+    }
 
-            currentArmour = player.getArmour();
-            currentHealth = player.getHealth();
-            GameState.setlevelWon(false);
+    /**
+     * Asks for the game to be won once the current physics step has finished.
+     * Safe to call from collision handlers; asking again before it has happened has no effect.
+     */
+    public void requestGameWon() {
+        commands.post("game won", this::GameWon);
+    }
 
-            currentLevel = new Level2(this);
+    /**
+     * Returns the timing of each phase of the most recent level change.
+     *
+     * @return The phase timings, or {@code null} if the level has not changed yet.
+     */
+    public PhaseTimer getLastTransition() {
+        return lastTransition;
+    }
 
-            Image background2 = new ImageIcon("data/factory1.jpg").getImage();
-            view.updateBackground(background2);
+    /**
+     * Returns the timing of each phase of preparing the level that the most recent level change went to.
+     *
+     * @return The preparation timings, or {@code null} if the level has not changed yet or the level it went to
+     *         was not prepared by the {@link LevelLoader}.
+     */
+    public PhaseTimer getLastPreload() {
+        return lastPreload;
+    }
 
-            Player newplayer = currentLevel.getPlayer();
+    /**
+     * Transitions the game to the next level based on the current level instance.
+     * <p>
+     * The next level has normally been built, and its background loaded and scaled, by the {@link LevelLoader}
+     * while the current level was played, so the change only has to swap the new world into the view. If it is
+     * not ready yet the change waits for it, and if preparing it failed it is built here instead. The old level
+     * is left through {@link GameLevel#exit()}, which stops it and releases all of its listeners and bodies, and
+     * the time taken by each phase of the change is recorded for {@link #getLastTransition()}, next to the
+     * preparation timings for {@link #getLastPreload()}. Both are printed if the game was run with
+     * {@code -Dgame.timings=true}.
+     * </p>
+     */
+    public void goToNextLevel(){
+        if (!(currentLevel instanceof Level1) && !(currentLevel instanceof Level2)) {
+            return;
+        }
+        PhaseTimer timer = new PhaseTimer("Level transition");
+        LevelLoader.Prepared prepared = loader.take();
+        timer.mark("wait for preload");
+
+        GameLevel nextLevel;
+        Image nextBackground;
+        BufferedImage scaledBackground = null;
+        if (prepared != null) {
+            nextLevel = prepared.getLevel();
+            nextBackground = prepared.getBackground();
+            scaledBackground = prepared.getScaledBackground();
+        } else if (currentLevel instanceof Level1) {
+            nextLevel = new Level2(this);
+            nextBackground = new ImageIcon("data/factory1.jpg").getImage();
+        } else {
+            nextLevel = new Level3(this);
+            nextBackground = new ImageIcon("data/factory2.jpeg").getImage();
+        }
+        timer.mark("build level");
 
-            view.setWorld(currentLevel);
-            playerController.updatePlayer(currentLevel.getPlayer());
+        currentArmour = player.getArmour();
+        currentHealth = player.getHealth();
 
-            Player.setHealth(currentHealth);
-            Player.setArmour(currentArmour);
-            player.gunright();
-            currentLevel.start();
+        if (currentLevel instanceof Level1){
+            //gametheme1.stop();
+            //gametheme2.loop();
         }
-        else if (currentLevel instanceof Level2){
-            ((Level2) currentLevel).destroyLevelObjects();
-            currentLevel.stop();
-
+        else {
             //gametheme2.stop();
             //gametheme3.loop();
+        }
+        currentLevel.exit();
+        timer.mark("teardown");
+        GameState.setlevelWon(false);
 
-            currentArmour = player.getArmour();
-            currentHealth = player.getHealth();
-
-            currentLevel = new Level3(this);
-            GameState.setlevelWon(false);
+        currentLevel = nextLevel;
+        currentLevel.enter();
+        player = currentLevel.getPlayer();
 
-            Image background3 = new ImageIcon("data/factory2.jpeg").getImage();
-            view.updateBackground(background3);
+        if (scaledBackground != null) {
+            view.updateBackground(nextBackground, scaledBackground);
+        } else {
+            view.updateBackground(nextBackground);
+        }
+        timer.mark("load background");
 
-            Player newplayer = currentLevel.getPlayer();
+        view.setWorld(currentLevel);
+        playerController.updatePlayer(player);
 
-            view.setWorld(currentLevel);
-            playerController.updatePlayer(currentLevel.getPlayer());
+        Player.setHealth(currentHealth);
+        Player.setArmour(currentArmour);
+        player.gunright();
+        timer.mark("switch view");
 
-            Player.setHealth(currentHealth);
-            Player.setArmour(currentArmour);
-            player.gunright();
-            currentLevel.start();
+        currentLevel.start();
+        timer.mark("start");
+
+        lastTransition = timer;
+        lastPreload = prepared != null ? prepared.getTimer() : null;
+        if (PRINT_TIMINGS) {
+            System.out.println(lastPreload != null ? lastPreload
+                    : "Level preload: none, level built during the change");
+            System.out.println(timer);
         }
+
+        preloadNextLevel();
     }
 
     /**
      * Handles the game winning scenario, stopping the current game level, playing winning sounds, and updating the background.
      */
     public void GameWon(){
-        ((Level3) currentLevel).destroyLevelObjects();
-        ((GameLevel) currentLevel).destroyLevelallObjects();
+        currentLevel.exit();
 
         //gametheme3.stop();
 
@@ -167,7 +257,6 @@ public class Game {
         Image background4 = new ImageIcon("data/black.jpg").getImage();
         view.updateBackground(background4);
 
-        currentLevel.stop();
         GameState.setGameWon(true);
     }
 
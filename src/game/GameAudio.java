@@ -0,0 +1,105 @@
+package game;
+
+import city.cs.engine.*;
+
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.awt.GraphicsEnvironment;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Loads and plays the game's sound effects, and allows sound to be switched off.
+ * <p>
+ * All sound clips are loaded through this class so that the game can run without an audio device, for
+ * example when a level is stepped by the {@link HeadlessRunner}. When sound is disabled, or a clip fails to
+ * load, {@link #load(String)} returns {@code null} and {@link #play(SoundClip)} quietly does nothing.
+ * Sounds are started on a separate audio thread.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public final class GameAudio {
+    private static boolean enabled = !GraphicsEnvironment.isHeadless() && !Boolean.getBoolean("game.noaudio");
+
+    // Clips are started one at a time on a background thread, so a burst of sounds never holds up a step
+    private static final ExecutorService audioThread = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "game-audio");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Set while a thread is running code whose sounds should not be heard, such as releasing a level
+    private static final ThreadLocal<Boolean> silenced = ThreadLocal.withInitial(() -> false);
+
+    private GameAudio() {
+    }
+
+    /**
+     * Runs some code with every sound it plays on the current thread switched off. Used when a level is released,
+     * so that bodies destroyed with it do not play their death or pickup sounds.
+     *
+     * @param task The code to run.
+     */
+    public static void runSilently(Runnable task) {
+        boolean wasSilenced = silenced.get();
+        silenced.set(true);
+        try {
+            task.run();
+        } finally {
+            silenced.set(wasSilenced);
+        }
+    }
+
+    /**
+     * Switches sound on or off. This must be called before any game objects are created,
+     * because their sound clips are loaded when their classes are first used.
+     *
+     * @param state true to play sounds, false to run silently.
+     */
+    public static void setEnabled(boolean state) {
+        enabled = state;
+    }
+
+    /**
+     * Checks whether sounds are played.
+     *
+     * @return true if sound is enabled, false otherwise.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Loads a sound clip, printing the error if the clip cannot be opened.
+     *
+     * @param path The path to the sound file.
+     * @return The loaded clip, or {@code null} if sound is disabled or the clip could not be loaded.
+     */
+    public static SoundClip load(String path) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            return new SoundClip(path);
+        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException | IllegalArgumentException e) {
+            System.out.println(e);
+            return null;
+        }
+    }
+
+    /**
+     * Plays a sound clip once, if sound is enabled, the clip was loaded and the caller is not running silently.
+     * The clip is started on the audio thread, so the caller, often the physics step, never waits for it.
+     *
+     * @param clip The clip to play; may be {@code null}.
+     */
+    public static void play(SoundClip clip) {
+        if (enabled && clip != null && !silenced.get()) {
+            audioThread.execute(clip::play);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package game;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A queue of game-wide actions, such as changing level, that must not run inside a physics step.
+ * <p>
+ * Collision handlers run while the world is stepping, which is the wrong time to stop the world, tear the
+ * level down and build the next one. Instead they post a named command here. The queue runs its commands on
+ * the Swing event thread once the current step has returned, in the order they were posted. Posting a
+ * command while another with the same name is still waiting has no effect, so a door touched on several
+ * steps in a row only changes level once.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class GameCommands {
+    private final Deque<String> names = new ArrayDeque<>();
+    private final Deque<Runnable> commands = new ArrayDeque<>();
+    private boolean drainScheduled;
+
+    /**
+     * Posts a command to be run after the current step.
+     *
+     * @param name A name for the command; a command with the same name that is already waiting is not repeated.
+     * @param command The action to run.
+     * @return true if the command was queued, false if the same command was already waiting.
+     */
+    public synchronized boolean post(String name, Runnable command) {
+        if (names.contains(name)) {
+            return false;
+        }
+        names.add(name);
+        commands.add(command);
+        if (!drainScheduled) {
+            drainScheduled = true;
+            SwingUtilities.invokeLater(this::drain);
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether any commands are waiting to run.
+     *
+     * @return true if the queue is not empty.
+     */
+    public synchronized boolean hasPending() {
+        return !commands.isEmpty();
+    }
+
+    /**
+     * Runs every waiting command, including any posted by the commands themselves.
+     */
+    public void drain() {
+        while (true) {
+            Runnable command;
+            synchronized (this) {
+                command = commands.poll();
+                names.poll();
+                if (command == null) {
+                    drainScheduled = false;
+                    return;
+                }
+            }
+            command.run();
+        }
+    }
+}
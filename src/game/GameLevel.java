@@ -17,8 +17,19 @@ import org.jbox2d.common.Vec2;
  * @since 1.0
  */
 public abstract class GameLevel extends World {
+    private final LevelLifecycle lifecycle = new LevelLifecycle();
     private Player player;
     private StaticBody ground, wall1, wall2;
+    private final AnimationClock clock = new AnimationClock();
+    private final SpriteLayer sprites = new SpriteLayer(clock);
+    private final MovementSystem movement = new MovementSystem();
+    private final LevelGeometry geometry = new LevelGeometry();
+    private final ContactDispatcher contacts = new ContactDispatcher();
+    private final DeferredQueue deferred = new DeferredQueue();
+    private final BulletPool bullets;
+    private final ProjectileEngine projectiles = new ProjectileEngine(this, 4096, 0.25f);
+    private final Weapon weapon = new Weapon(this);
+    private NavGraph nav;
 
     /**
      * Constructs a GameLevel instance which sets up the physical environment and player.
@@ -27,26 +38,90 @@ public abstract class GameLevel extends World {
      */
     public GameLevel(Game game) {
         super(60);
+        this.addStepListener(clock);
+        this.addStepListener(movement);
+        // Contacts and destruction held back during the step are dealt with before bullets are recycled
+        this.addStepListener(deferred);
 
         // Create ground
-        Shape shape = new BoxShape(40, 0.5f);
-        ground = new StaticBody(this, shape);
-        ground.setPosition(new Vec2(0f, -11.5f));
+        ground = addPlatform(40, 0.5f, 0f, -11.5f);
 
         // Initialize the player
         player = new Player(this);
-        this.addStepListener(new PlayerController(player, 10, 19));
+        // Enemy AI is updated less often the further an enemy is from the player
+        movement.getScheduler().setFocus(player);
+
+        // All player contacts go through one dispatcher; levels register their pickups with it
+        player.addCollisionListener(contacts);
 
         // Setup player-enemy collisions
-        player.addCollisionListener(new EnemyCollision(player));
-        player.addCollisionListener(new FlyingEnemyCollision(player));
+        contacts.register(Enemy.class, new EnemyCollision(player));
+        contacts.register(FlyingEnemy.class, new FlyingEnemyCollision(player));
 
         // Create boundary walls
-        Shape Wall = new BoxShape(0.5f, 15);
-        wall1 = new StaticBody(this, Wall);
-        wall1.setPosition(new Vec2(-30, 4));
-        wall2 = new StaticBody(this, Wall);
-        wall2.setPosition(new Vec2(30, 4));
+        wall1 = addPlatform(0.5f, 15, -30, 4);
+        wall2 = addPlatform(0.5f, 15, 30, 4);
+
+        // Preallocate the player's bullets; misses are recycled after 3 seconds or once outside the walls
+        bullets = new BulletPool(this, 24, 3f, -31, 31, -13, 40);
+        this.addStepListener(bullets);
+        this.addStepListener(projectiles);
+        lifecycle.onRelease(projectiles::clear);
+    }
+
+    /**
+     * Adds a step listener to this level and records it, so that it is removed when the level is left.
+     *
+     * @param listener The step listener to add.
+     */
+    @Override
+    public void addStepListener(StepListener listener) {
+        super.addStepListener(listener);
+        lifecycle.trackListener(listener);
+    }
+
+    /**
+     * Removes a step listener from this level.
+     *
+     * @param listener The step listener to remove.
+     */
+    @Override
+    public void removeStepListener(StepListener listener) {
+        super.removeStepListener(listener);
+        lifecycle.untrackListener(listener);
+    }
+
+    /**
+     * Creates a solid box, such as a platform, floor or wall, and records it in the level geometry.
+     *
+     * @param halfWidth Half the width of the box.
+     * @param halfHeight Half the height of the box.
+     * @param x The horizontal position of the box's centre.
+     * @param y The vertical position of the box's centre.
+     * @return The new platform.
+     */
+    protected Platform addPlatform(float halfWidth, float halfHeight, float x, float y) {
+        LevelGeometry.Outline outline = LevelGeometry.Outline.box(halfWidth, halfHeight);
+        Platform platform = new Platform(this, outline.getShape());
+        platform.setPosition(new Vec2(x, y));
+        geometry.addSolid(platform, outline);
+        return platform;
+    }
+
+    /**
+     * Creates a trigger zone that reports when the player enters or leaves an area of this level.
+     *
+     * @param x The horizontal position of the zone's centre.
+     * @param y The vertical position of the zone's centre.
+     * @param halfWidth Half the width of the zone.
+     * @param halfHeight Half the height of the zone.
+     * @param singleUse true if the zone should remove itself after the player first enters it.
+     * @param listener The listener told about enter and exit events.
+     * @return The new trigger zone.
+     */
+    protected TriggerZone addTriggerZone(float x, float y, float halfWidth, float halfHeight,
+                                         boolean singleUse, TriggerZone.Listener listener) {
+        return new TriggerZone(this, x, y, halfWidth, halfHeight, player, singleUse, listener);
     }
 
     /**
@@ -59,20 +134,124 @@ public abstract class GameLevel extends World {
     }
 
     /**
-     * Abstract method to determine if the level completion conditions are met.
+     * Returns the layer that draws the sprites of every game object in this level.
      *
-     * @return true if the level is complete, false otherwise.
+     * @return The sprite layer of this level.
      */
-    public abstract boolean isComplete();
+    public SpriteLayer getSprites() {
+        return sprites;
+    }
+
+    /**
+     * Returns the system that moves all enemies, pickups and platforms of this level.
+     *
+     * @return The movement system of this level.
+     */
+    public MovementSystem getMovement() {
+        return movement;
+    }
+
+    /**
+     * Returns the pool of bullets the player fires in this level.
+     *
+     * @return The bullet pool of this level.
+     */
+    public BulletPool getBullets() {
+        return bullets;
+    }
+
+    /**
+     * Returns the dispatcher that passes the player's contacts to the handler for each type of body.
+     *
+     * @return The player contact dispatcher of this level.
+     */
+    public ContactDispatcher getContacts() {
+        return contacts;
+    }
 
     /**
-     * Destroys all major objects in the level, including ground, walls, and player.
-     * This method is called when transitioning levels or restarting.
+     * Returns the queue that holds back contact handling and body destruction until the end of each step.
+     *
+     * @return The deferred queue of this level.
+     */
+    public DeferredQueue getDeferred() {
+        return deferred;
+    }
+
+    /**
+     * Returns the box outline of this level's platforms and enemies, used for shot tests.
+     *
+     * @return The geometry of this level.
+     */
+    public LevelGeometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * Returns the map of surfaces that chasing enemies use to find their way to the player. It is built from
+     * the level's static platforms the first time it is asked for, which must be after they have all been added.
+     *
+     * @return The navigation graph of this level.
+     */
+    public NavGraph getNavGraph() {
+        if (nav == null) {
+            nav = NavGraph.build(geometry, MovementSystem.CHASE_JUMP_SPEED, MovementSystem.CHASE_JUMP_RUN_SPEED,
+                    getGravity() * Enemy.GRAVITY_SCALE);
+        }
+        return nav;
+    }
+
+    /**
+     * Returns the engine that moves this level's body-less projectiles.
+     *
+     * @return The projectile engine of this level.
+     */
+    public ProjectileEngine getProjectiles() {
+        return projectiles;
+    }
+
+    /**
+     * Returns the player's gun for this level, which decides whether shots are hitscan or physical bullets.
+     *
+     * @return The weapon of this level.
      */
-    public void destroyLevelallObjects() {
-        if (ground != null) ground.destroy();
-        if (player != null) player.destroy2();
-        if (wall1 != null) wall1.destroy();
-        if (wall2 != null) wall2.destroy();
+    public Weapon getWeapon() {
+        return weapon;
     }
+
+    /**
+     * Called when this level becomes the level being played, just before it starts.
+     * <p>
+     * A level can be built well before it is played, for example by the {@link LevelLoader}, so constructors
+     * must not change game-wide state. Anything shared between levels, such as the player's stats and the
+     * enemy counts, is reset here instead. Levels that override this must call it first.
+     * </p>
+     */
+    public void enter() {
+        Player.resetStats();
+    }
+
+    /**
+     * Called when the game leaves this level. Stops the level and releases every step listener and body it
+     * created, through its {@link LevelLifecycle}, so that nothing keeps the old level alive.
+     */
+    public void exit() {
+        lifecycle.release(this);
+    }
+
+    /**
+     * Returns the record of the listeners and clean-up tasks this level has to release when it is left.
+     *
+     * @return The lifecycle of this level.
+     */
+    public LevelLifecycle getLifecycle() {
+        return lifecycle;
+    }
+
+    /**
+     * Abstract method to determine if the level completion conditions are met.
+     *
+     * @return true if the level is complete, false otherwise.
+     */
+    public abstract boolean isComplete();
 }
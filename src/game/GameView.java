@@ -2,6 +2,7 @@ package game;
 
 import city.cs.engine.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import javax.swing.ImageIcon;
 
 /**
@@ -19,64 +20,50 @@ import javax.swing.ImageIcon;
  * @since 1.0
  */
 public class GameView extends UserView {
-    private Image backgroundImage;
-    private Image healthBar;
-    private Player player;
-    private Image armourbar;
+    private static final Font messageFont = new Font("Arial", Font.BOLD, 60);
+    private final BackgroundCache background;
+    private final HudLayer hud = new HudLayer();
 
     /**
      * Constructs a GameView with a specified width and height for the viewport.
      *
+     * The health and armour shown are those of the player of the level being displayed.
+     *
      * @param world The game level to be displayed.
-     * @param player The player whose health and armour status are to be displayed.
      * @param width The width of the viewport.
      * @param height The height of the viewport.
      */
-    public GameView(GameLevel world, Player player, int width, int height) {
+    public GameView(GameLevel world, int width, int height) {
         super(world, width, height);
-        this.player = player;
         // Load the background image
-        backgroundImage = new ImageIcon("data/factory background (1).webp").getImage();
-        healthBar = new ImageIcon("data/2Bars.png").getImage();
-        armourbar = new ImageIcon("data/ArmourEmpty.png").getImage();
+        background = new BackgroundCache(new ImageIcon("data/factory background (1).webp").getImage());
         }
 
     @Override
     protected void paintBackground(Graphics2D g) {
-        // Draw the background image
-        g.drawImage(backgroundImage, 0, 0, getHeight()*8/3, getHeight(), null);
+        // Draw the background, pre-scaled to the current view size
+        background.paint(g, getWidth(), getHeight());
     }
 
     @Override
     protected void paintForeground(Graphics2D g){
-        // Dynamic updates to health and armour bar graphics
-        int health = player.getHealth();
-        if (health >= 3) {
-            healthBar = new ImageIcon("data/3Bars.png").getImage();
-        } else if (health == 2) {
-            healthBar = new ImageIcon("data/2Bars.png").getImage();
-        } else if (health == 1) {
-            healthBar = new ImageIcon("data/1Bars.png").getImage();
-        } else if (health == 0){
-            healthBar = new ImageIcon("data/0Bars.png").getImage();
+        // Draw every game object's sprite from the shared atlas
+        SpriteLayer sprites = SpriteLayer.of(getWorld());
+        if (sprites != null) {
+            sprites.paint(g, this);
         }
-        g.drawImage(healthBar,-90,-160,400,400,null);
-
-        int armour = player.getArmour();
-        if (armour >= 1){
-            armourbar = new ImageIcon("data/ArmourFull.png").getImage();
-        } else if (armour == 0){
-            armourbar = new ImageIcon("data/ArmourEmpty.png").getImage();
+        // Body-less projectiles are drawn in one batch
+        if (getWorld() instanceof GameLevel) {
+            ((GameLevel) getWorld()).getProjectiles().paint(g, this);
         }
-        g.drawImage(armourbar,80,-112,300,300,null);
 
         super.paintForeground(g);
 
-        // Display enemy count and game state messages
-        g.setFont(new Font("Arial", Font.BOLD, 22));
-        g.setColor(Color.BLACK);
-        g.drawString("Enemies Left: " + Enemy.getEnemyCount(), 20, 70);
-        g.drawString("Flying Enemies Left: " + FlyingEnemy.getEnemyCount(), 20, 95);
+        // Health, armour and enemy counts are redrawn by the HUD layer only when they change
+        // The player is read from the level shown, so the view never keeps an old level alive
+        if (getWorld() instanceof GameLevel) {
+            hud.paint(g, ((GameLevel) getWorld()).getPlayer());
+        }
 
         if (GameState.isGameOver()) {
             drawGameOverScreen(g);
@@ -88,14 +75,14 @@ public class GameView extends UserView {
     private void drawGameOverScreen(Graphics2D g) {
         // Draws the Game Over screen
         g.setColor(Color.RED);
-        g.setFont(new Font("Arial", Font.BOLD, 60));
+        g.setFont(messageFont);
         g.drawString("Game Over!", 450, 300);
     }
 
     private void drawGameWinScreen(Graphics2D g) {
         // Draws the Game Win screen
         g.setColor(Color.GREEN);
-        g.setFont(new Font("Arial", Font.BOLD, 60));
+        g.setFont(messageFont);
         g.drawString("You Win!", 450, 300);
     }
 
@@ -105,15 +92,26 @@ public class GameView extends UserView {
      * @return The current background image.
      */
     public Image getBackgroundImage() {
-        return backgroundImage;
+        return background.getSource();
     }
 
     /**
      * Updates the background image of the game view.
+     * The image is scaled to the view once, on the next repaint.
      *
      * @param newBackground The new image to be set as the background.
      */
     public void updateBackground(Image newBackground){
-        this.backgroundImage = newBackground;
+        background.setSource(newBackground);
+    }
+
+    /**
+     * Updates the background image of the game view with a picture that has already been scaled.
+     *
+     * @param newBackground The new image to be set as the background.
+     * @param scaled The new image scaled to the size of the view.
+     */
+    public void updateBackground(Image newBackground, BufferedImage scaled){
+        background.setSource(newBackground, scaled);
     }
 }
@@ -2,10 +2,6 @@ package game;
 
 import city.cs.engine.*;
 
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
-import java.io.IOException;
-
 /**
  * Represents a collectible gun in the game that players can pick up.
  * <p>
@@ -36,11 +32,7 @@ public class Gun extends Collectible {
 
     // Static initializer block to load the gun sound effect.
     static {
-        try {
-            gun = new SoundClip("data/Gun.wav");
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            System.out.println(e);
-        }
+        gun = GameAudio.load("data/Gun.wav");
     }
 
     /**
@@ -52,7 +44,7 @@ public class Gun extends Collectible {
      */
     @Override
     public void destroy() {
-        gun.play();
+        GameAudio.play(gun);
         super.destroy();
     }
 }
@@ -42,7 +42,17 @@ public class GunCollision extends CollectibleCollision {
     @Override
     public void collide(CollisionEvent e) {
         if (e.getOtherBody() instanceof Gun) {
-            e.getOtherBody().destroy();  // Trigger the gun to be destroyed, representing that the player has collected it.
+            handle(e.getOtherBody());
         }
     }
+
+    /**
+     * Removes the gun when the player touches it, representing that the player has collected it.
+     *
+     * @param other The body the player touched.
+     */
+    @Override
+    public void handle(Body other) {
+        DeferredQueue.destroy(other);
+    }
 }
@@ -0,0 +1,429 @@
+package game;
+
+import city.cs.engine.*;
+import org.jbox2d.common.Vec2;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Runs a game level without a window or sound and measures how fast it can be stepped.
+ * <p>
+ * The runner builds {@link Level1}, {@link Level2} or {@link Level3} exactly as the game does, but instead of
+ * letting the world run at 60 steps per second it steps the world one step at a time, as fast as the CPU
+ * allows. It reports the number of steps per second and the distribution of per-step times, which gives a
+ * repeatable baseline for changes to step listeners and collision handling.
+ * </p>
+ * <p>
+ * Usage: {@code java game.HeadlessRunner [level] [steps] [warmupSteps] [shotsPerStep]}, for example
+ * {@code java game.HeadlessRunner 2 20000}. The level defaults to 1, the number of measured steps to 10000
+ * and the warm-up to a tenth of the measured steps. If a number of shots per step is given, the player
+ * fires that many shots, alternating left and right, before every step, and the level is run once with
+ * each {@link Weapon.Mode} so the step cost of hitscan and physical bullets can be compared.
+ * </p>
+ * <p>
+ * {@code java game.HeadlessRunner stress [bodies] [steps]} instead runs a crowded scene of pickups and bullets
+ * in level 1, once with {@link CollisionLayer} filtering and once without, and prints the number of contacts
+ * per step the physics engine reports, counted on every body in the world, and how many of them the game's
+ * listeners passed on or dropped.
+ * </p>
+ * <p>
+ * {@code java game.HeadlessRunner leaks [cycles] [steps]} builds, plays and leaves the three levels in turn
+ * and checks that every level left is garbage collected and that the heap returns to within
+ * {@link #LEAK_TOLERANCE_KB} of where it started. It exits with status 1 if either check fails.
+ * </p>
+ * <p>
+ * {@code java game.HeadlessRunner nav [level]} builds the {@link NavGraph} of a level, or of all three, and
+ * prints its surfaces and links and how many pairs of surfaces have a route between them.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class HeadlessRunner {
+
+    /** How far the heap in use may grow over a leak check before the check fails, in kilobytes. */
+    public static final long LEAK_TOLERANCE_KB = 1024;
+
+    /**
+     * The timing results of one headless run.
+     */
+    public static class Result {
+        private final int steps;
+        private final long totalNanos;
+        private final long[] stepNanos;
+
+        private Result(long totalNanos, long[] stepNanos) {
+            this.steps = stepNanos.length;
+            this.totalNanos = totalNanos;
+            this.stepNanos = stepNanos.clone();
+            Arrays.sort(this.stepNanos);
+        }
+
+        /**
+         * Returns the number of measured steps.
+         *
+         * @return The step count.
+         */
+        public int getSteps() {
+            return steps;
+        }
+
+        /**
+         * Returns the overall stepping rate.
+         *
+         * @return The number of world steps per second of CPU time.
+         */
+        public double getStepsPerSecond() {
+            return totalNanos == 0 ? 0 : steps * 1e9 / totalNanos;
+        }
+
+        /**
+         * Returns a percentile of the per-step time.
+         *
+         * @param percentile The percentile to look up, from 0 to 100.
+         * @return The step time at that percentile, in microseconds.
+         */
+        public double getPercentileMicros(double percentile) {
+            if (steps == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * steps) - 1;
+            return stepNanos[Math.max(0, Math.min(index, steps - 1))] / 1000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d steps, %.0f steps/s, p50 %.1f us, p90 %.1f us, p99 %.1f us, max %.1f us",
+                    steps, getStepsPerSecond(), getPercentileMicros(50), getPercentileMicros(90),
+                    getPercentileMicros(99), getPercentileMicros(100));
+        }
+    }
+
+    /**
+     * The results of one leak check.
+     */
+    public static class LeakResult {
+        private final int cycles;
+        private final int alive;
+        private final long baseline;
+        private final long after;
+
+        private LeakResult(int cycles, int alive, long baseline, long after) {
+            this.cycles = cycles;
+            this.alive = alive;
+            this.baseline = baseline;
+            this.after = after;
+        }
+
+        /**
+         * Returns the number of levels left that the garbage collector could not collect.
+         *
+         * @return The count of levels still reachable.
+         */
+        public int getAlive() {
+            return alive;
+        }
+
+        /**
+         * Returns how much the heap in use grew over the check.
+         *
+         * @return The growth, in kilobytes, which is negative if the heap shrank.
+         */
+        public long getGrowthKb() {
+            return (after - baseline) / 1024;
+        }
+
+        /**
+         * Checks whether the check failed, because a level is still reachable or the heap grew by more than
+         * {@link HeadlessRunner#LEAK_TOLERANCE_KB}.
+         *
+         * @return true if something is leaking.
+         */
+        public boolean isLeaking() {
+            return alive > 0 || getGrowthKb() > LEAK_TOLERANCE_KB;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d level cycles: %d levels still reachable, heap %d KB before, %d KB after "
+                            + "(%+d KB, tolerance %d KB) %s", cycles, alive, baseline / 1024, after / 1024,
+                    getGrowthKb(), LEAK_TOLERANCE_KB, isLeaking() ? "FAILED" : "OK");
+        }
+    }
+
+    /**
+     * Switches off the display and sound. Must be called before any game class is loaded.
+     */
+    public static void makeHeadless() {
+        System.setProperty("java.awt.headless", "true");
+        GameAudio.setEnabled(false);
+    }
+
+    /**
+     * Builds a level without a {@link Game}. Doorways in a level built this way do not change level.
+     *
+     * @param number The level number, 1 to 3.
+     * @return The new level, entered but not started.
+     */
+    public static GameLevel createLevel(int number) {
+        GameState.setGameOver(false);
+        GameState.setlevelWon(false);
+        GameState.setGameWon(false);
+        GameLevel level;
+        switch (number) {
+            case 1:
+                level = new Level1(null);
+                break;
+            case 2:
+                level = new Level2(null);
+                break;
+            case 3:
+                level = new Level3(null);
+                break;
+            default:
+                throw new IllegalArgumentException("No such level: " + number);
+        }
+        level.enter();
+        return level;
+    }
+
+    /**
+     * Steps a stopped level as fast as possible and measures each step.
+     *
+     * @param level The level to step. It must not have been started.
+     * @param warmupSteps The number of steps to run before measuring, to let the JIT compile the hot paths.
+     * @param steps The number of steps to measure.
+     * @return The timing results.
+     */
+    public static Result run(GameLevel level, int warmupSteps, int steps) {
+        return run(level, warmupSteps, steps, 0);
+    }
+
+    /**
+     * Steps a stopped level as fast as possible while the player keeps firing, and measures each step.
+     * The time taken to fire is counted as part of the step.
+     *
+     * @param level The level to step. It must not have been started.
+     * @param warmupSteps The number of steps to run before measuring, to let the JIT compile the hot paths.
+     * @param steps The number of steps to measure.
+     * @param shotsPerStep The number of shots the player fires before each step, alternating direction.
+     * @return The timing results.
+     */
+    public static Result run(GameLevel level, int warmupSteps, int steps, int shotsPerStep) {
+        for (int i = 0; i < warmupSteps; i++) {
+            fire(level, shotsPerStep);
+            level.oneStep();
+        }
+        long[] stepNanos = new long[steps];
+        long start = System.nanoTime();
+        for (int i = 0; i < steps; i++) {
+            long before = System.nanoTime();
+            fire(level, shotsPerStep);
+            level.oneStep();
+            stepNanos[i] = System.nanoTime() - before;
+        }
+        return new Result(System.nanoTime() - start, stepNanos);
+    }
+
+    private static void fire(GameLevel level, int shots) {
+        for (int i = 0; i < shots; i++) {
+            level.getWeapon().fire(level.getPlayer(), (i & 1) == 0);
+        }
+    }
+
+    /**
+     * Fills level 1 with overlapping pickups and moving bullets and counts the contacts the engine reports.
+     * The scene is the same on every run, so runs with and without filtering can be compared.
+     * <p>
+     * Contacts are counted with a collision listener on every body in the world, static and dynamic, so a
+     * contact between two bodies is counted once for each of them. Every body is solid whether filtering is on
+     * or not, so the engine reports the same contacts both ways; what filtering changes is how many of them
+     * the game's listeners check against a mask and pass on or drop.
+     * </p>
+     *
+     * @param filtering true to build the bodies with {@link CollisionLayer} filtering.
+     * @param bodies The number of pickups, and also of bullets, to add.
+     * @param steps The number of steps to run.
+     * @return A one-line summary of the contacts per step, those passed on and dropped, and the step rate.
+     */
+    public static String stress(boolean filtering, int bodies, int steps) {
+        boolean wasFiltering = CollisionLayer.isFilteringEnabled();
+        CollisionLayer.setFilteringEnabled(filtering);
+        try {
+            GameLevel level = createLevel(1);
+            long[] collisions = new long[1];
+            Random random = new Random(1);
+            for (int i = 0; i < bodies; i++) {
+                HealthPotion potion = new HealthPotion(level);
+                potion.setPosition(new Vec2(random.nextFloat() * 40 - 20, random.nextFloat() * 20 - 8));
+
+                Bullets bullet = new Bullets(level);
+                bullet.setPosition(new Vec2(random.nextFloat() * 40 - 20, random.nextFloat() * 20 - 8));
+                bullet.setLinearVelocity(new Vec2(random.nextFloat() * 10 - 5, random.nextFloat() * 10 - 5));
+            }
+            List<Body> all = new ArrayList<>(level.getDynamicBodies());
+            all.addAll(level.getStaticBodies());
+            for (Body body : all) {
+                body.addCollisionListener(e -> collisions[0]++);
+            }
+            long accepted = CollisionLayer.getAcceptedCount();
+            long rejected = CollisionLayer.getRejectedCount();
+            Result result = run(level, 0, steps);
+            accepted = CollisionLayer.getAcceptedCount() - accepted;
+            rejected = CollisionLayer.getRejectedCount() - rejected;
+            return String.format("filtering %s: %.2f collision events/step on all bodies, "
+                            + "%.2f contacts/step passed on by mask, %.2f dropped, %.0f steps/s",
+                    filtering ? "on" : "off", (double) collisions[0] / steps,
+                    (double) accepted / steps, (double) rejected / steps, result.getStepsPerSecond());
+        } finally {
+            CollisionLayer.setFilteringEnabled(wasFiltering);
+        }
+    }
+
+    /**
+     * Builds a level and describes its navigation graph.
+     *
+     * @param levelNumber The level to build, from 1 to 3.
+     * @return The graph's surfaces and links, followed by a one-line summary of how well they are connected.
+     */
+    public static String nav(int levelNumber) {
+        GameLevel level = createLevel(levelNumber);
+        NavGraph graph = level.getNavGraph();
+        int jumps = 0;
+        for (int l = 0; l < graph.getLinkCount(); l++) {
+            if (graph.isJump(l)) {
+                jumps++;
+            }
+        }
+        int surfaces = graph.getSurfaceCount();
+        String summary = String.format("Level %d: %d surfaces, %d links (%d jumps of up to %.1f), "
+                        + "%d of %d surface pairs connected", levelNumber, surfaces, graph.getLinkCount(), jumps,
+                graph.getMaxJumpHeight(), graph.getConnectedPairCount(), surfaces * (surfaces - 1));
+        level.exit();
+        return graph + summary;
+    }
+
+    /**
+     * Builds, steps and leaves levels 1 to 3 in turn, as the game does, and checks that nothing keeps the
+     * levels that were left alive.
+     * <p>
+     * One cycle is run first, so that classes, sprite images and sounds are loaded before the baseline heap
+     * size is taken. Each later level is only held through a weak reference once it has been left. After the
+     * last cycle, the garbage collector is run until every level has been collected or it gives up, and the
+     * heap in use is compared with the baseline.
+     * </p>
+     *
+     * @param cycles The number of levels to build and leave.
+     * @param steps The number of steps to run each level for.
+     * @return How many levels are still reachable and how much the heap has grown.
+     */
+    public static LeakResult leaks(int cycles, int steps) {
+        GameLevel warmup = createLevel(1);
+        run(warmup, 0, steps);
+        warmup.exit();
+        warmup = null;
+        long baseline = usedHeapAfterGc(new ArrayList<>());
+
+        List<WeakReference<GameLevel>> left = new ArrayList<>();
+        for (int i = 0; i < cycles; i++) {
+            GameLevel level = createLevel(i % 3 + 1);
+            run(level, 0, steps);
+            level.exit();
+            left.add(new WeakReference<>(level));
+            // Otherwise the last level stays reachable from this frame while the heap is measured
+            level = null;
+        }
+        long after = usedHeapAfterGc(left);
+
+        int alive = 0;
+        for (WeakReference<GameLevel> reference : left) {
+            if (reference.get() != null) {
+                alive++;
+            }
+        }
+        return new LeakResult(cycles, alive, baseline, after);
+    }
+
+    // Runs the garbage collector until all the given levels have been collected, or ten times, and
+    // returns the heap in use
+    private static long usedHeapAfterGc(List<WeakReference<GameLevel>> levels) {
+        Runtime runtime = Runtime.getRuntime();
+        for (int attempt = 0; attempt < 10; attempt++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            boolean collected = true;
+            for (WeakReference<GameLevel> reference : levels) {
+                if (reference.get() != null) {
+                    collected = false;
+                    break;
+                }
+            }
+            if (collected && attempt > 0) {
+                break;
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Runs one level headless and prints the results.
+     *
+     * @param args Optional level number, measured step count and warm-up step count.
+     */
+    public static void main(String[] args) {
+        makeHeadless();
+        if (args.length > 0 && args[0].equals("stress")) {
+            int bodies = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+            int steps = args.length > 2 ? Integer.parseInt(args[2]) : 600;
+            System.out.println(stress(false, bodies, steps));
+            System.out.println(stress(true, bodies, steps));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("nav")) {
+            int from = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+            int to = args.length > 1 ? from : 3;
+            for (int number = from; number <= to; number++) {
+                System.out.println(nav(number));
+            }
+            return;
+        }
+        if (args.length > 0 && args[0].equals("leaks")) {
+            int cycles = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+            int steps = args.length > 2 ? Integer.parseInt(args[2]) : 300;
+            LeakResult result = leaks(cycles, steps);
+            System.out.println(result);
+            if (result.isLeaking()) {
+                System.exit(1);
+            }
+            return;
+        }
+        int levelNumber = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        int steps = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+        int warmupSteps = args.length > 2 ? Integer.parseInt(args[2]) : steps / 10;
+        int shotsPerStep = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+
+        if (shotsPerStep == 0) {
+            GameLevel level = createLevel(levelNumber);
+            Result result = run(level, warmupSteps, steps);
+            System.out.println("Level " + levelNumber + ": " + result);
+            System.out.println(level.getMovement().getScheduler());
+            return;
+        }
+        for (Weapon.Mode mode : Weapon.Mode.values()) {
+            GameLevel level = createLevel(levelNumber);
+            level.getWeapon().setMode(mode);
+            Result result = run(level, warmupSteps, steps, shotsPerStep);
+            System.out.println("Level " + levelNumber + ", " + mode + ", " + shotsPerStep + " shots/step: " + result);
+        }
+    }
+}
@@ -2,10 +2,6 @@ package game;
 
 import city.cs.engine.*;
 
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
-import java.io.IOException;
-
 /**
  * Represents a health potion collectible that players can pick up to restore health.
  * <p>
@@ -37,11 +33,7 @@ public class HealthPotion extends Collectible {
 
     // Static initializer block to load the health potion sound effect.
     static {
-        try {
-            healthPotion = new SoundClip("data/HealthPotion.wav");
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            System.out.println(e);
-        }
+        healthPotion = GameAudio.load("data/HealthPotion.wav");
     }
 
     /**
@@ -53,7 +45,7 @@ public class HealthPotion extends Collectible {
      */
     @Override
     public void destroy() {
-        healthPotion.play();
+        GameAudio.play(healthPotion);
         super.destroy();
     }
 }
@@ -41,9 +41,19 @@ public class HealthPotionCollision extends CollectibleCollision {
      */
     @Override
     public void collide(CollisionEvent e) {
-        if (e.getOtherBody() == collectible) {
+        handle(e.getOtherBody());
+    }
+
+    /**
+     * Restores the player's health if the body touched is this handler's potion.
+     *
+     * @param other The body the player touched.
+     */
+    @Override
+    public void handle(Body other) {
+        if (other == collectible) {
             player.increaseHealth();
-            collectible.destroy();
+            DeferredQueue.destroy(collectible);
         }
     }
 }
@@ -0,0 +1,92 @@
+package game;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * An off-screen layer holding the player's status display.
+ * <p>
+ * The health bar, armour bar and enemy counters are drawn into a cached image that is only redrawn when
+ * one of the values it shows has changed. On every other frame {@link GameView} copies the cached image to
+ * the screen in a single draw call, so the cost of the HUD no longer depends on how much it contains.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class HudLayer {
+    private static final int WIDTH = 400;
+    private static final int HEIGHT = 240;
+    private static final Font hudFont = new Font("Arial", Font.BOLD, 22);
+
+    private final BufferedImage image;
+    private int health = -1, armour = -1, enemies = -1, flyingEnemies = -1;
+    private boolean valid;
+    private long rebuilds;
+
+    /**
+     * Constructs an empty HUD layer. The layer is drawn the first time it is painted.
+     */
+    public HudLayer() {
+        image = CompatibleImages.create(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * Draws the HUD, redrawing the cached image first if any of the displayed values have changed.
+     *
+     * @param g The graphics context of the view, in view coordinates.
+     * @param player The player whose health and armour are displayed.
+     */
+    public void paint(Graphics2D g, Player player) {
+        int newHealth = player.getHealth();
+        int newArmour = player.getArmour();
+        int newEnemies = Enemy.getEnemyCount();
+        int newFlyingEnemies = FlyingEnemy.getEnemyCount();
+        if (!valid || newHealth != health || newArmour != armour
+                || newEnemies != enemies || newFlyingEnemies != flyingEnemies) {
+            health = newHealth;
+            armour = newArmour;
+            enemies = newEnemies;
+            flyingEnemies = newFlyingEnemies;
+            rebuild();
+        }
+        g.drawImage(image, 0, 0, null);
+    }
+
+    /**
+     * Forces the layer to be redrawn on the next paint, for example after a level change.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Returns how many times the cached image has been redrawn.
+     *
+     * @return The number of rebuilds since the layer was created.
+     */
+    public long getRebuilds() {
+        return rebuilds;
+    }
+
+    private void rebuild() {
+        Graphics2D g = image.createGraphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, WIDTH, HEIGHT);
+        g.setComposite(AlphaComposite.SrcOver);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        g.drawImage(HudSprites.healthBar(health), -90, -160, null);
+        g.drawImage(HudSprites.armourBar(armour), 80, -112, null);
+
+        g.setFont(hudFont);
+        g.setColor(Color.BLACK);
+        g.drawString("Enemies Left: " + enemies, 20, 70);
+        g.drawString("Flying Enemies Left: " + flyingEnemies, 20, 95);
+        g.dispose();
+
+        valid = true;
+        rebuilds++;
+    }
+}
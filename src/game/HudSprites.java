@@ -0,0 +1,94 @@
+package game;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Preloaded images for the player's health and armour bars.
+ * <p>
+ * Every bar image is decoded once, when this class is first used, and stored already scaled to the size
+ * it is drawn at on screen. {@link GameView} looks images up by the player's current health or armour value,
+ * so painting the HUD never loads, decodes or allocates an image. The registry also counts how often it is
+ * read and how much memory it holds, which makes it easy to check that the HUD no longer allocates at paint time.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public final class HudSprites {
+    /** The on-screen size of a health bar image, in pixels. */
+    public static final int HEALTH_BAR_SIZE = 400;
+    /** The on-screen size of an armour bar image, in pixels. */
+    public static final int ARMOUR_BAR_SIZE = 300;
+
+    // Indexed by health value (0 to 3) and armour value (0 to 1).
+    private static final BufferedImage[] healthBars = {
+            CompatibleImages.load("data/0Bars.png", HEALTH_BAR_SIZE, HEALTH_BAR_SIZE),
+            CompatibleImages.load("data/1Bars.png", HEALTH_BAR_SIZE, HEALTH_BAR_SIZE),
+            CompatibleImages.load("data/2Bars.png", HEALTH_BAR_SIZE, HEALTH_BAR_SIZE),
+            CompatibleImages.load("data/3Bars.png", HEALTH_BAR_SIZE, HEALTH_BAR_SIZE)
+    };
+    private static final BufferedImage[] armourBars = {
+            CompatibleImages.load("data/ArmourEmpty.png", ARMOUR_BAR_SIZE, ARMOUR_BAR_SIZE),
+            CompatibleImages.load("data/ArmourFull.png", ARMOUR_BAR_SIZE, ARMOUR_BAR_SIZE)
+    };
+    private static final long bytesUsed = sizeOf(healthBars) + sizeOf(armourBars);
+    private static long hits;
+
+    private HudSprites() {
+    }
+
+    /**
+     * Returns the health bar image for the given health value.
+     * Values above the maximum show a full bar and values below zero show an empty bar.
+     *
+     * @param health The player's current health.
+     * @return The matching health bar image.
+     */
+    public static BufferedImage healthBar(int health) {
+        hits++;
+        return healthBars[clamp(health, healthBars.length - 1)];
+    }
+
+    /**
+     * Returns the armour bar image for the given armour value.
+     * Values above the maximum show a full bar and values below zero show an empty bar.
+     *
+     * @param armour The player's current armour.
+     * @return The matching armour bar image.
+     */
+    public static BufferedImage armourBar(int armour) {
+        hits++;
+        return armourBars[clamp(armour, armourBars.length - 1)];
+    }
+
+    /**
+     * Returns the total size of the pixel data held by the registry.
+     *
+     * @return The number of bytes used by all HUD images.
+     */
+    public static long getBytesUsed() {
+        return bytesUsed;
+    }
+
+    /**
+     * Returns how many times an image has been looked up since the game started.
+     *
+     * @return The number of registry lookups.
+     */
+    public static long getHits() {
+        return hits;
+    }
+
+    private static int clamp(int value, int max) {
+        return Math.max(0, Math.min(value, max));
+    }
+
+    private static long sizeOf(BufferedImage[] images) {
+        long total = 0;
+        for (BufferedImage image : images) {
+            total += CompatibleImages.sizeInBytes(image);
+        }
+        return total;
+    }
+}
@@ -2,10 +2,6 @@ package game;
 
 import city.cs.engine.*;
 
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
-import java.io.IOException;
-
 /**
  * Represents a key in the game world that players can collect.
  * <p>
@@ -18,12 +14,13 @@ import java.io.IOException;
  * @version 1.0
  * @since 1.0
  */
-public class Key extends DynamicBody {
+public class Key extends DynamicBody implements CategorizedBody {
 
     private static final Shape keyShape = new BoxShape(3, 0.1f);
-    private static final BodyImage keyImage =
-            new BodyImage("data/key.png", 6f);
+    private static final SpriteImage keyImage =
+            new SpriteImage("data/key.png", 6f);
     private static SoundClip keySound;
+    private final Sprite sprite;
 
     /**
      * Constructs a key within the specified game world.
@@ -37,17 +34,13 @@ public class Key extends DynamicBody {
      */
     public Key(World world) {
         super(world, keyShape);
-        addImage(keyImage);
+        sprite = new Sprite(world, this, keyImage);
         setGravityScale(0);
     }
 
     // Static initializer to load the sound effect for the key.
     static {
-        try {
-            keySound = new SoundClip("data/Key.wav");
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            System.out.println(e);
-        }
+        keySound = GameAudio.load("data/Key.wav");
     }
 
     /**
@@ -60,7 +53,17 @@ public class Key extends DynamicBody {
      */
     @Override
     public void destroy() {
-        keySound.play();
+        GameAudio.play(keySound);
         super.destroy();
     }
+
+    /**
+     * Returns the collision category of a key.
+     *
+     * @return {@link CollisionLayer#PICKUP}.
+     */
+    @Override
+    public int getCategory() {
+        return CollisionLayer.PICKUP;
+    }
 }
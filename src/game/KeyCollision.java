@@ -15,7 +15,7 @@ import city.cs.engine.*;
  * @version 1.0
  * @since 1.0
  */
-public class KeyCollision implements CollisionListener {
+public class KeyCollision implements CollisionListener, ContactHandler {
     private Player player;
     private Key key;
 
@@ -47,8 +47,18 @@ public class KeyCollision implements CollisionListener {
     @Override
     public void collide(CollisionEvent e) {
         if (e.getOtherBody() instanceof Key) {
-            GameState.setlevelWon(true);
-            e.getOtherBody().destroy();
+            handle(e.getOtherBody());
         }
     }
+
+    /**
+     * Marks the level as won and removes the key when the player collects it.
+     *
+     * @param other The body the player touched.
+     */
+    @Override
+    public void handle(Body other) {
+        GameState.setlevelWon(true);
+        DeferredQueue.destroy(other);
+    }
 }
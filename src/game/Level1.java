@@ -31,33 +31,21 @@ public class Level1 extends GameLevel{
     public Level1(Game game) {
         super(game);
         // makes suspended platforms
-        Shape platformShape = new BoxShape(4, 0.3f);
+        platform1 = addPlatform(4, 0.3f, -20, -5f);
 
-        platform1 = new StaticBody(this, platformShape);
-        platform1.setPosition(new Vec2(-20, -5f));
+        platform2 = addPlatform(4, 0.3f, 0, 10f);
 
-        platform2 = new StaticBody(this, platformShape);
-        platform2.setPosition(new Vec2(0, 10f));
-
-        platform3 = new StaticBody(this, platformShape);
-        platform3.setPosition(new Vec2(20, -5f));
+        platform3 = addPlatform(4, 0.3f, 20, -5f);
 
         //makes ledges
 
-        Shape ledge = new BoxShape(8, 0.5f);
-
-        ledge1 = new StaticBody(this, ledge);
-        ledge1.setPosition(new Vec2(-22, 7));
+        ledge1 = addPlatform(8, 0.5f, -22, 7);
 
-        ledge2 = new StaticBody(this, ledge);
-        ledge2.setPosition(new Vec2(22, 7));
+        ledge2 = addPlatform(8, 0.5f, 22, 7);
 
         //makes middle platform
 
-        Shape MiddlePlatform = new BoxShape(13, 0.5f);
-
-        MiddlePlatform1 = new StaticBody(this, MiddlePlatform);
-        MiddlePlatform1.setPosition(new Vec2(0, 1f));
+        MiddlePlatform1 = addPlatform(13, 0.5f, 0, 1f);
 
         //sets player spawn point
 
@@ -66,39 +54,47 @@ public class Level1 extends GameLevel{
         // Creates the Enemies, sets spawn point and movement
         enemy1 = new Enemy(this);
         enemy1.setPosition(new Vec2(-20, 9));
-        this.addStepListener(new EnemyPatrolling(enemy1, 0.1f, -17, -28));
+        getMovement().addPatrol(enemy1, 0.1f, -17, -28);
 
         enemy2 = new Enemy(this);
         enemy2.setPosition(new Vec2(20, 9));
-        this.addStepListener(new EnemyPatrolling(enemy2, 0.1f, 28, 17));
+        getMovement().addPatrol(enemy2, 0.1f, 28, 17);
 
         enemy3 = new Enemy(this);
         enemy3.setPosition(new Vec2(23, -10));
-        this.addStepListener(new EnemyPatrolling(enemy3, 0.2f, 25, -25));
+        getMovement().addPatrol(enemy3, 0.2f, 25, -25);
 
         enemy4 = new Enemy(this);
         enemy4.setPosition(new Vec2(0, 3));
-        this.addStepListener(new EnemyPatrolling(enemy4, 0.1f, 10, -10));
+        getMovement().addPatrol(enemy4, 0.1f, 10, -10);
 
-        //creates instance of gun, sets spawn point, adds movement and collision
+        //creates instance of gun, sets spawn point, adds bobbing and collision
         gun = new Gun(this);
-        gun.setPosition(new Vec2(0, 15));
-        this.addStepListener(new CollectibleMovement(gun, -0.03f, 14, 12));
-        getPlayer().addCollisionListener(new GunCollision(getPlayer(), gun));
-
-        //creates instance of health potion, sets spawn point, adds movement and collision
+        gun.setPosition(new Vec2(0, 13));
+        getSprites().bob(gun, 1, 2.2f);
+        getContacts().register(Gun.class, new GunCollision(getPlayer(), gun));
+        // the player is armed on reaching the gun's area, whether or not the gun itself is touched; the zone is
+        // narrowed by the player's half width so that it fires when the player's centre is within 3 of the gun
+        addTriggerZone(0, 13, 2, 0.1f, true, zone -> PlayerController.hasGun = true);
+
+        //creates instance of health potion, sets spawn point, adds bobbing and collision
         healthPotion = new HealthPotion(this);
-        healthPotion.setPosition(new Vec2(27, 16));
-        this.addStepListener(new CollectibleMovement(healthPotion, -0.03f, 15, 13));
-        getPlayer().addCollisionListener(new HealthPotionCollision(getPlayer(), healthPotion));
+        healthPotion.setPosition(new Vec2(27, 14));
+        getSprites().bob(healthPotion, 1, 2.2f);
+        getContacts().register(HealthPotion.class, new HealthPotionCollision(getPlayer(), healthPotion));
 
         //creates instance of Portal, sets spawn point and adds collision
         portal = new Portal(this);
         portal.setPosition(new Vec2(0, -3));
-        getPlayer().addCollisionListener(new DoorwayCollision(this, game));
-
-        //sets count of enemies
+        getContacts().register(Doorway.class, new DoorwayCollision(this, game));
+    }
 
+    /**
+     * Resets the shared state for this level and sets the number of enemies to defeat.
+     */
+    @Override
+    public void enter() {
+        super.enter();
         Enemy.setEnemyCount(4);
     }
 
@@ -114,17 +110,4 @@ public class Level1 extends GameLevel{
         }
         else return false;
     }
-
-    /**
-     * Destroys all level-specific objects such as platforms and ledges when the level is reset or completed.
-     */
-    public void destroyLevelObjects() {
-        // Destroy platforms and ledges
-        if (platform1 != null) platform1.destroy();
-        if (platform2 != null) platform2.destroy();
-        if (platform3 != null) platform3.destroy();
-        if (ledge1 != null) ledge1.destroy();
-        if (ledge2 != null) ledge2.destroy();
-        if (MiddlePlatform1 != null) MiddlePlatform1.destroy();
-    }
 }
@@ -1,7 +1,5 @@
 package game;
 
-import city.cs.engine.BoxShape;
-import city.cs.engine.Shape;
 import city.cs.engine.StaticBody;
 import org.jbox2d.common.Vec2;
 
@@ -34,26 +32,17 @@ public class Level2 extends GameLevel {
 
         // creates platforms
 
-        Shape platformShape = new BoxShape(6, 0.3f);
+        platform1 = addPlatform(6, 0.3f, -17, -5f);
 
-        platform1 = new StaticBody(this, platformShape);
-        platform1.setPosition(new Vec2(-17, -5f));
+        platform2 = addPlatform(6, 0.3f, -33, 1f);
 
-        platform2 = new StaticBody(this, platformShape);
-        platform2.setPosition(new Vec2(-33, 1f));
-
-        platform3 = new StaticBody(this, platformShape);
-        platform3.setPosition(new Vec2(-17, 7f));
+        platform3 = addPlatform(6, 0.3f, -17, 7f);
 
         //creates floors
 
-        Shape floor = new BoxShape(18,0.3f);
-
-        floor1 = new StaticBody(this, floor);
-        floor1.setPosition(new Vec2(12,1f));
+        floor1 = addPlatform(18, 0.3f, 12, 1f);
 
-        floor2 = new StaticBody(this, floor);
-        floor2.setPosition(new Vec2(12,13f));
+        floor2 = addPlatform(18, 0.3f, 12, 13f);
 
         // sets player spawn point
 
@@ -65,38 +54,43 @@ public class Level2 extends GameLevel {
 
         enemy1 = new Enemy(this);
         enemy1.setPosition(new Vec2(8, 14f));
-        this.addStepListener(new EnemyPatrolling(enemy1, -0.3f, 20, -3));
+        getMovement().addPatrol(enemy1, -0.3f, 20, -3);
 
         enemy2 = new Enemy(this);
         enemy2.setPosition(new Vec2(14, 2f));
-        this.addStepListener(new EnemyPatrolling(enemy2, -0.3f, 25, -3));
+        getMovement().addPatrol(enemy2, -0.3f, 25, -3);
 
         enemy3 = new Enemy(this);
         enemy3.setPosition(new Vec2(23, -10));
-        this.addStepListener(new EnemyFollowsPlayer(enemy3, player, 8));
+        getMovement().addChase(enemy3, player, 8);
 
-        //creates instance of armour, sets spawn point, adds movement and collision
+        //creates instance of armour, sets spawn point, adds bobbing and collision
 
         armour = new Armour(this);
         armour.setPosition(new Vec2(29, 7));
-        this.addStepListener(new CollectibleMovement(armour, -0.03f, 8, 6));
-        getPlayer().addCollisionListener(new ArmourCollision(getPlayer(), armour));
+        getSprites().bob(armour, 1, 2.2f);
+        getContacts().register(Armour.class, new ArmourCollision(getPlayer(), armour));
 
-        //creates instance of key, sets spawn point, adds movement and collision
+        //creates instance of key, sets spawn point, adds bobbing and collision
 
         key = new Key(this);
-        key.setPosition(new Vec2(29,16));
-        this.addStepListener(new KeyMovement(key,-0.015f,16,15));
-        getPlayer().addCollisionListener(new KeyCollision(getPlayer(), key));
+        key.setPosition(new Vec2(29,15.5f));
+        getSprites().bob(key, 0.5f, 2.2f);
+        getContacts().register(Key.class, new KeyCollision(getPlayer(), key));
 
         //creates instance of Door, sets spawn point and adds collision
 
         door = new Door(this);
         door.setPosition(new Vec2(28,-9));
-        getPlayer().addCollisionListener(new DoorwayCollision(this, game));
-
-        //sets count of enemies
+        getContacts().register(Doorway.class, new DoorwayCollision(this, game));
+    }
 
+    /**
+     * Resets the shared state for this level and sets the number of enemies to defeat.
+     */
+    @Override
+    public void enter() {
+        super.enter();
         Enemy.setEnemyCount(3);
     }
 
@@ -112,16 +106,4 @@ public class Level2 extends GameLevel {
         }
         else return false;
     }
-
-    /**
-     * Destroys all level-specific objects such as platforms and floors when the level is reset or completed.
-     */
-    public void destroyLevelObjects() {
-        // Destroy platforms and floor
-        if (platform1 != null) platform1.destroy();
-        if (platform2 != null) platform2.destroy();
-        if (platform3 != null) platform3.destroy();
-        if (floor1 != null) floor1.destroy();
-        if (floor2 != null) floor2.destroy();
-        }
 }
@@ -20,7 +20,8 @@ public class Level3 extends GameLevel{
     private Door door;
     private Key key;
     private Diamond diamond;
-    private StaticBody floor1, wall1, wall2, movingPlatformHorizontal, movingPlatformVertical;
+    private StaticBody floor1, wall1, wall2;
+    private MovingPlatform movingPlatformHorizontal, movingPlatformVertical;
 
     /**
      * Constructs Level 3 of the game, setting up the environment, platforms, enemies, and collectibles.
@@ -31,52 +32,48 @@ public class Level3 extends GameLevel{
         super(game);
 
         // Set up static structures and moving platforms
-        Shape Wall = new BoxShape(0.5f, 7.5f);
+        wall1 = addPlatform(0.5f, 7.5f, -20, 2);
 
-        wall1 = new StaticBody(this, Wall);
-        wall1.setPosition(new Vec2(-20, 2));
+        wall2 = addPlatform(0.5f, 10.5f, 10, -1);
 
-        Shape Wall2 = new BoxShape(0.5f, 10.5f);
+        floor1 = addPlatform(15.5f, 0.5f, -5, 9);
 
-        wall2 = new StaticBody(this, Wall2);
-        wall2.setPosition(new Vec2(10, -1));
+        // Both platforms go back and forth between the ends of their track, starting part way along it
+        movingPlatformHorizontal = new MovingPlatform(this, 3f, 0.3f, 6, MovingPlatform.Path.PING_PONG,
+                new Vec2(22, -5), 1, new Vec2(14, -5), new Vec2(26, -5));
+        getMovement().addPlatform(movingPlatformHorizontal);
 
-        Shape floor = new BoxShape(15.5f,0.5f);
-
-        floor1 = new StaticBody(this, floor);
-        floor1.setPosition(new Vec2(-5,9));
-
-        Shape MovingPlatform = new BoxShape(3f, 0.3f);
-
-        movingPlatformHorizontal = new StaticBody(this, MovingPlatform);
-        movingPlatformHorizontal.setPosition(new Vec2(22,-5));
-        this.addStepListener(new HorizontalPlatformMovement(movingPlatformHorizontal, 0.1f, 4, -8));
-
-        movingPlatformVertical = new StaticBody(this, MovingPlatform);
-        movingPlatformVertical.setPosition(new Vec2(15,2));
-        this.addStepListener(new VerticalPlatformMovement(movingPlatformVertical, 0.05f, 5, -5));
+        movingPlatformVertical = new MovingPlatform(this, 3f, 0.3f, 3, MovingPlatform.Path.PING_PONG,
+                new Vec2(15, 2), 1, new Vec2(15, -3), new Vec2(15, 7));
+        getMovement().addPlatform(movingPlatformVertical);
 
         // Initialize and position player
         getPlayer().setPosition(new Vec2(27f, -10f));
 
         flyingEnemy1 = new FlyingEnemy(this, getPlayer(), 8.0f);
         flyingEnemy1.setPosition(new Vec2(-24,0));
-        this.addStepListener(new FlyingUpdater(flyingEnemy1));
+        getMovement().addFlyer(flyingEnemy1);
 
         door = new Door(this);
         door.setPosition(new Vec2(-20,-9));
-        getPlayer().addCollisionListener(new DoorwayCollision(this, game));
+        getContacts().register(Doorway.class, new DoorwayCollision(this, game));
 
         key = new Key(this);
         key.setPosition(new Vec2(-27, -8));
-        this.addStepListener(new KeyMovement(key,-0.015f, -7,-9));
-        getPlayer().addCollisionListener(new KeyCollision(getPlayer(), key));
+        getSprites().bob(key, 1, 4.4f);
+        getContacts().register(Key.class, new KeyCollision(getPlayer(), key));
 
         diamond = new Diamond(this);
         diamond.setPosition(new Vec2(0,0));
-        getPlayer().addCollisionListener(new DiamondCollision(game));
+        getContacts().register(Diamond.class, new DiamondCollision(game));
+    }
 
-        // Set enemy count for level completion logic
+    /**
+     * Resets the shared state for this level and sets the number of enemies to defeat.
+     */
+    @Override
+    public void enter() {
+        super.enter();
         FlyingEnemy.setEnemyCount(1);
     }
 
@@ -92,16 +89,4 @@ public class Level3 extends GameLevel{
         }
         else return false;
     }
-
-    /**
-     * Destroys all level-specific objects such as platforms and structures when the level is reset or completed.
-     */
-    public void destroyLevelObjects() {
-        // Destroy platforms and floor
-        if (movingPlatformHorizontal != null) movingPlatformHorizontal.destroy();
-        if (movingPlatformVertical != null) movingPlatformVertical.destroy();
-        if (floor1 != null) floor1.destroy();
-        if (wall1 != null) wall1.destroy();
-        if (wall2 != null) wall2.destroy();
-    }
 }
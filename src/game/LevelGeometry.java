@@ -0,0 +1,344 @@
+package game;
+
+import city.cs.engine.*;
+import org.jbox2d.common.Vec2;
+
+import java.util.Arrays;
+
+/**
+ * Keeps a simple box outline of the solid platforms, doorways and enemies of a level, for fast line tests.
+ * <p>
+ * Every platform, ledge, floor and wall that a {@link GameLevel} builds is recorded here. Every
+ * {@link Doorway} records itself as a solid too, since it stops bullets in the same way, and every
+ * {@link Enemy} and {@link FlyingEnemy} records itself as a target when it is created. Each of them builds its
+ * engine shape from an {@link Outline}, which knows the box around the shape, and records that same outline
+ * here, so the size of a body is only ever given once.
+ * Box positions are read from the bodies at the time of each test, so platforms moved by the
+ * {@link MovementSystem} are followed without any extra work. Destroyed bodies are skipped.
+ * </p>
+ * <p>
+ * {@link #raycast(float, float, float, float, Hit)} finds the first box crossed by a line segment. It is
+ * used by hitscan shots, which would otherwise need a physical bullet body, and does not allocate.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class LevelGeometry {
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The result of a line test: the first body crossed and where along the line it was met.
+     */
+    public static final class Hit {
+        private Body body;
+        private boolean target;
+        private float fraction;
+        private float startX, startY, endX, endY;
+
+        /**
+         * Returns the body that was hit.
+         *
+         * @return The body the line met first, or {@code null} if nothing was hit.
+         */
+        public Body getBody() {
+            return body;
+        }
+
+        /**
+         * Checks whether the body hit is an enemy rather than a platform.
+         *
+         * @return true if an enemy was hit.
+         */
+        public boolean isTarget() {
+            return target;
+        }
+
+        /**
+         * Returns how far along the line the hit happened.
+         *
+         * @return 0 at the start of the line, 1 at its end.
+         */
+        public float getFraction() {
+            return fraction;
+        }
+
+        /**
+         * Returns the horizontal position of the hit point.
+         *
+         * @return The x coordinate where the line met the body.
+         */
+        public float getX() {
+            return startX + (endX - startX) * fraction;
+        }
+
+        /**
+         * Returns the vertical position of the hit point.
+         *
+         * @return The y coordinate where the line met the body.
+         */
+        public float getY() {
+            return startY + (endY - startY) * fraction;
+        }
+    }
+
+    /**
+     * An engine shape together with the half width and half height of the box around it.
+     */
+    public static final class Outline {
+        private final Shape shape;
+        private final float halfWidth;
+        private final float halfHeight;
+
+        private Outline(Shape shape, float halfWidth, float halfHeight) {
+            this.shape = shape;
+            this.halfWidth = halfWidth;
+            this.halfHeight = halfHeight;
+        }
+
+        /**
+         * Creates a box centred on the body.
+         *
+         * @param halfWidth Half the width of the box.
+         * @param halfHeight Half the height of the box.
+         * @return The outline of a {@link BoxShape}.
+         */
+        public static Outline box(float halfWidth, float halfHeight) {
+            return new Outline(new BoxShape(halfWidth, halfHeight), halfWidth, halfHeight);
+        }
+
+        /**
+         * Creates a circle centred on the body.
+         *
+         * @param radius The radius of the circle.
+         * @return The outline of a {@link CircleShape}, with the square around it as its box.
+         */
+        public static Outline circle(float radius) {
+            return new Outline(new CircleShape(radius), radius, radius);
+        }
+
+        /**
+         * Returns the engine shape to build the body from.
+         *
+         * @return The shape.
+         */
+        public Shape getShape() {
+            return shape;
+        }
+
+        /**
+         * Returns half the width of the box around the shape.
+         *
+         * @return The half width.
+         */
+        public float getHalfWidth() {
+            return halfWidth;
+        }
+
+        /**
+         * Returns half the height of the box around the shape.
+         *
+         * @return The half height.
+         */
+        public float getHalfHeight() {
+            return halfHeight;
+        }
+    }
+
+    // Platforms, floors and walls
+    private Body[] solids = new Body[INITIAL_CAPACITY];
+    private float[] solidHalfWidth = new float[INITIAL_CAPACITY];
+    private float[] solidHalfHeight = new float[INITIAL_CAPACITY];
+    private boolean[] solidAlive = new boolean[INITIAL_CAPACITY];
+    private int solidCount;
+
+    // Enemies that shots can damage
+    private Body[] targets = new Body[INITIAL_CAPACITY];
+    private float[] targetHalfWidth = new float[INITIAL_CAPACITY];
+    private float[] targetHalfHeight = new float[INITIAL_CAPACITY];
+    private boolean[] targetAlive = new boolean[INITIAL_CAPACITY];
+    private int targetCount;
+
+    /**
+     * Returns the geometry of the level a world belongs to.
+     *
+     * @param world The world to look up.
+     * @return The level's geometry, or {@code null} if the world is not a {@link GameLevel}.
+     */
+    public static LevelGeometry of(World world) {
+        if (world instanceof GameLevel) {
+            return ((GameLevel) world).getGeometry();
+        }
+        return null;
+    }
+
+    /**
+     * Records a solid box, such as a platform, wall or doorway, that blocks shots.
+     *
+     * @param body The body of the box.
+     * @param outline The outline the body's shape was built from.
+     */
+    public void addSolid(Body body, Outline outline) {
+        if (solidCount == solids.length) {
+            int size = solidCount * 2;
+            solids = Arrays.copyOf(solids, size);
+            solidHalfWidth = Arrays.copyOf(solidHalfWidth, size);
+            solidHalfHeight = Arrays.copyOf(solidHalfHeight, size);
+            solidAlive = Arrays.copyOf(solidAlive, size);
+        }
+        int i = solidCount++;
+        solids[i] = body;
+        solidHalfWidth[i] = outline.getHalfWidth();
+        solidHalfHeight[i] = outline.getHalfHeight();
+        solidAlive[i] = true;
+        body.addDestructionListener(e -> solidAlive[i] = false);
+    }
+
+    /**
+     * Returns the body of a solid box.
+     *
+     * @param i The index of the box, from 0 to {@link #getSolidCount()} - 1.
+     * @return The box's body.
+     */
+    public Body getSolid(int i) {
+        return solids[i];
+    }
+
+    /**
+     * Returns half the width of a solid box.
+     *
+     * @param i The index of the box.
+     * @return The box's half width.
+     */
+    public float getSolidHalfWidth(int i) {
+        return solidHalfWidth[i];
+    }
+
+    /**
+     * Returns half the height of a solid box.
+     *
+     * @param i The index of the box.
+     * @return The box's half height.
+     */
+    public float getSolidHalfHeight(int i) {
+        return solidHalfHeight[i];
+    }
+
+    /**
+     * Checks whether the body of a solid box is still in the world.
+     *
+     * @param i The index of the box.
+     * @return true if the box has not been destroyed.
+     */
+    public boolean isSolidAlive(int i) {
+        return solidAlive[i];
+    }
+
+    /**
+     * Records an enemy that shots can hit.
+     *
+     * @param body The enemy's body.
+     * @param outline The outline the enemy's shape was built from.
+     */
+    public void addTarget(Body body, Outline outline) {
+        if (targetCount == targets.length) {
+            int size = targetCount * 2;
+            targets = Arrays.copyOf(targets, size);
+            targetHalfWidth = Arrays.copyOf(targetHalfWidth, size);
+            targetHalfHeight = Arrays.copyOf(targetHalfHeight, size);
+            targetAlive = Arrays.copyOf(targetAlive, size);
+        }
+        int i = targetCount++;
+        targets[i] = body;
+        targetHalfWidth[i] = outline.getHalfWidth();
+        targetHalfHeight[i] = outline.getHalfHeight();
+        targetAlive[i] = true;
+        body.addDestructionListener(e -> targetAlive[i] = false);
+    }
+
+    /**
+     * Finds the first solid box or enemy crossed by a line segment.
+     *
+     * @param x0 The horizontal start of the line.
+     * @param y0 The vertical start of the line.
+     * @param x1 The horizontal end of the line.
+     * @param y1 The vertical end of the line.
+     * @param hit Receives the details of the hit; its body is {@code null} if nothing was hit.
+     * @return true if the line crossed a box.
+     */
+    public boolean raycast(float x0, float y0, float x1, float y1, Hit hit) {
+        hit.body = null;
+        hit.target = false;
+        hit.fraction = 1;
+        hit.startX = x0;
+        hit.startY = y0;
+        hit.endX = x1;
+        hit.endY = y1;
+        float dx = x1 - x0;
+        float dy = y1 - y0;
+        for (int i = 0; i < solidCount; i++) {
+            if (solidAlive[i]) {
+                test(solids[i], solidHalfWidth[i], solidHalfHeight[i], false, x0, y0, dx, dy, hit);
+            }
+        }
+        for (int i = 0; i < targetCount; i++) {
+            if (targetAlive[i]) {
+                test(targets[i], targetHalfWidth[i], targetHalfHeight[i], true, x0, y0, dx, dy, hit);
+            }
+        }
+        return hit.body != null;
+    }
+
+    /**
+     * Returns the number of solid boxes recorded, including destroyed ones.
+     *
+     * @return The solid count.
+     */
+    public int getSolidCount() {
+        return solidCount;
+    }
+
+    /**
+     * Returns the number of enemies recorded, including destroyed ones.
+     *
+     * @return The target count.
+     */
+    public int getTargetCount() {
+        return targetCount;
+    }
+
+    // Slab test of the segment against one box, keeping the hit if it is nearer than the current one
+    private static void test(Body body, float halfWidth, float halfHeight, boolean target,
+                             float x0, float y0, float dx, float dy, Hit hit) {
+        Vec2 centre = body.getPosition();
+        float near = 0;
+        float far = hit.fraction;
+
+        if (dx == 0) {
+            if (Math.abs(x0 - centre.x) > halfWidth) {
+                return;
+            }
+        } else {
+            float t0 = (centre.x - halfWidth - x0) / dx;
+            float t1 = (centre.x + halfWidth - x0) / dx;
+            near = Math.max(near, Math.min(t0, t1));
+            far = Math.min(far, Math.max(t0, t1));
+        }
+        if (dy == 0) {
+            if (Math.abs(y0 - centre.y) > halfHeight) {
+                return;
+            }
+        } else {
+            float t0 = (centre.y - halfHeight - y0) / dy;
+            float t1 = (centre.y + halfHeight - y0) / dy;
+            near = Math.max(near, Math.min(t0, t1));
+            far = Math.min(far, Math.max(t0, t1));
+        }
+        if (near <= far && (hit.body == null || near < hit.fraction)) {
+            hit.body = body;
+            hit.target = target;
+            hit.fraction = near;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package game;
+
+import city.cs.engine.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps track of everything a level adds to the engine and releases all of it when the level is left.
+ * <p>
+ * Every step listener added to a {@link GameLevel} is recorded here, together with any other clean-up the
+ * level asks for. When the level is left, {@link #release(World)} stops the world, removes every recorded
+ * listener and destroys every body still in the world, static or dynamic, so that their collision, sensor
+ * and destruction listeners go with them. The clean-up tasks then run, newest first. Nothing the old level
+ * created is left attached to the engine, so once the game stops referring to the level, all of it can be
+ * garbage collected.
+ * </p>
+ * <p>
+ * Bodies destroyed while a level is released do not play their sounds. Releasing a level a second time does
+ * nothing.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class LevelLifecycle {
+    private final List<StepListener> listeners = new ArrayList<>();
+    private final List<Runnable> releaseTasks = new ArrayList<>();
+    private boolean released;
+    private int releasedBodies, releasedListeners;
+
+    /**
+     * Records a step listener that was added to the level.
+     *
+     * @param listener The listener.
+     */
+    public void trackListener(StepListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Forgets a step listener that was removed from the level before it was released.
+     *
+     * @param listener The listener.
+     */
+    public void untrackListener(StepListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Adds a task to run when the level is released, after its listeners and bodies are gone.
+     *
+     * @param task The clean-up task.
+     */
+    public void onRelease(Runnable task) {
+        releaseTasks.add(task);
+    }
+
+    /**
+     * Stops the world and releases every listener, body and clean-up task recorded for it.
+     *
+     * @param world The level's world.
+     */
+    public void release(World world) {
+        if (released) {
+            return;
+        }
+        released = true;
+        world.stop();
+
+        // Removing a listener from a level untracks it, which changes the list, so work from a copy
+        List<StepListener> tracked = new ArrayList<>(listeners);
+        for (StepListener listener : tracked) {
+            world.removeStepListener(listener);
+        }
+        releasedListeners = tracked.size();
+        listeners.clear();
+
+        // Copy the body lists first, because destroying a body changes them
+        List<Body> bodies = new ArrayList<>();
+        bodies.addAll(world.getDynamicBodies());
+        bodies.addAll(world.getStaticBodies());
+        GameAudio.runSilently(() -> {
+            for (Body body : bodies) {
+                body.destroy();
+            }
+        });
+        releasedBodies = bodies.size();
+
+        for (int i = releaseTasks.size() - 1; i >= 0; i--) {
+            releaseTasks.get(i).run();
+        }
+        releaseTasks.clear();
+    }
+
+    /**
+     * Checks whether the level has been released.
+     *
+     * @return true once {@link #release(World)} has been called.
+     */
+    public boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Returns the step listeners currently recorded, in the order they were added.
+     *
+     * @return A copy of the tracked listeners.
+     */
+    public List<StepListener> getListeners() {
+        return new ArrayList<>(listeners);
+    }
+
+    /**
+     * Returns the number of step listeners currently recorded.
+     *
+     * @return The tracked listener count.
+     */
+    public int getListenerCount() {
+        return listeners.size();
+    }
+
+    /**
+     * Returns the number of bodies destroyed when the level was released.
+     *
+     * @return The released body count, or 0 if the level has not been released.
+     */
+    public int getReleasedBodies() {
+        return releasedBodies;
+    }
+
+    /**
+     * Returns the number of step listeners removed when the level was released.
+     *
+     * @return The released listener count, or 0 if the level has not been released.
+     */
+    public int getReleasedListeners() {
+        return releasedListeners;
+    }
+}
@@ -0,0 +1,139 @@
+package game;
+
+import javax.swing.ImageIcon;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Builds the next level and loads its background on a background thread while the current level is played.
+ * <p>
+ * {@link #preload(Supplier, String, int, int)} starts building a level, with all of its bodies, sprites and
+ * listeners, and loads and scales its background image to the view size. None of this touches the level
+ * being played: a level only changes game-wide state such as the enemy count when {@link GameLevel#enter()}
+ * is called. When the player reaches the exit, {@link #take()} hands over the finished level, waiting only
+ * if it is not ready yet, so changing level is reduced to swapping the new world into the view.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class LevelLoader {
+
+    /**
+     * A level that has been built ahead of time, with its background ready to draw.
+     */
+    public static final class Prepared {
+        private final GameLevel level;
+        private final Image background;
+        private final BufferedImage scaledBackground;
+        private final PhaseTimer timer;
+
+        private Prepared(GameLevel level, Image background, BufferedImage scaledBackground, PhaseTimer timer) {
+            this.level = level;
+            this.background = background;
+            this.scaledBackground = scaledBackground;
+            this.timer = timer;
+        }
+
+        /**
+         * Returns the level that was built. It has not been entered or started.
+         *
+         * @return The prepared level.
+         */
+        public GameLevel getLevel() {
+            return level;
+        }
+
+        /**
+         * Returns the level's background image as loaded.
+         *
+         * @return The background image.
+         */
+        public Image getBackground() {
+            return background;
+        }
+
+        /**
+         * Returns the background already scaled to the view size.
+         *
+         * @return The scaled background.
+         */
+        public BufferedImage getScaledBackground() {
+            return scaledBackground;
+        }
+
+        /**
+         * Returns how long each phase of preparing the level took.
+         *
+         * @return The preparation timings.
+         */
+        public PhaseTimer getTimer() {
+            return timer;
+        }
+    }
+
+    private final ExecutorService loaderThread = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "level-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Future<Prepared> pending;
+
+    /**
+     * Starts preparing a level on the loader thread, replacing any level prepared earlier and not taken.
+     *
+     * @param factory Builds the level.
+     * @param backgroundPath The path to the level's background image.
+     * @param width The width of the view the background will be drawn in.
+     * @param height The height of the view the background will be drawn in.
+     */
+    public synchronized void preload(Supplier<GameLevel> factory, String backgroundPath, int width, int height) {
+        pending = loaderThread.submit(() -> {
+            PhaseTimer timer = new PhaseTimer("Level preload");
+            GameLevel level = factory.get();
+            timer.mark("build level");
+            level.getNavGraph();
+            timer.mark("build navigation graph");
+            Image background = new ImageIcon(backgroundPath).getImage();
+            timer.mark("load background");
+            BufferedImage scaled = BackgroundCache.prepare(background, width, height);
+            timer.mark("scale background");
+            return new Prepared(level, background, scaled, timer);
+        });
+    }
+
+    /**
+     * Checks whether a prepared level is ready to be taken without waiting.
+     *
+     * @return true if a level has finished preparing.
+     */
+    public synchronized boolean isReady() {
+        return pending != null && pending.isDone();
+    }
+
+    /**
+     * Hands over the prepared level, waiting for it to finish if necessary.
+     *
+     * @return The prepared level, or {@code null} if none was requested or preparing it failed.
+     */
+    public synchronized Prepared take() {
+        if (pending == null) {
+            return null;
+        }
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.out.println(e);
+            return null;
+        } catch (ExecutionException e) {
+            System.out.println(e.getCause());
+            return null;
+        } finally {
+            pending = null;
+        }
+    }
+}
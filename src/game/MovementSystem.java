@@ -0,0 +1,432 @@
+package game;
+
+import city.cs.engine.*;
+import org.jbox2d.common.Vec2;
+
+import java.util.Arrays;
+
+/**
+ * Moves every patrolling enemy, chasing enemy, flying enemy and moving platform of a level.
+ * <p>
+ * Each {@link GameLevel} owns one movement system, which is its only movement {@link StepListener}. Instead
+ * of one listener object per moving thing, the parameters of each kind of movement are kept side by side in
+ * primitive arrays and all movers of a kind are updated in one loop after every physics step.
+ * </p>
+ * <p>
+ * A patrolling enemy walks a fixed distance each step, and turns round once it passes its right or left
+ * boundary, facing the way it is going. A chasing enemy walks at a fixed speed towards the player,
+ * facing the way it is going. A flying enemy runs its own {@link FlyingEnemy#update()}, which heads straight
+ * for the player. Platforms are {@link MovingPlatform}s, which are steered by velocity along their waypoints.
+ * Pickups and keys are not moved at all, and only bob on screen, through {@link SpriteLayer#bob}.
+ * </p>
+ * <p>
+ * Enemies are updated as often as the system's {@link AiScheduler} allows: every step near the player and
+ * less often, or not at all, further away. Enemies that are skipped keep their last velocity, and patrolling
+ * enemies keep walking, so enemies far away still move at the same speed and are still stopped by what is in
+ * their way. A patrolling enemy that could pass its turning point before its next update is updated on every
+ * step until it turns.
+ * Chasing enemies find their way to the player across platforms with the level's {@link NavGraph}: while
+ * they are on a different surface from the player they head for the next jump or drop on the way, which only
+ * changes when the player or the enemy moves to another surface. If there is no way, or a jump falls short,
+ * they walk straight for the player instead until one of them moves to another surface.
+ * Chasing and flying enemies are stopped when they fall asleep, so the physics engine can let them rest.
+ * The scheduler's time budget can also end enemy updates early in a step; each kind of enemy then picks up
+ * from where it stopped on the next step, and the kind that is updated first takes turns. Every enemy
+ * remembers the step it was last reached on, so one that was due on a step that ran out of time is owed the
+ * update and gets it when it is next reached, even if it is not due then; it is owed at most one.
+ * </p>
+ * <p>
+ * Movers whose body is destroyed are skipped from then on. Updating the movers does not allocate: all
+ * velocities are passed to the engine through one reused vector.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class MovementSystem implements StepListener {
+    private static final int INITIAL_CAPACITY = 8;
+    // The upward speed of a chasing enemy's jump. Under the levels' gravity of 25, doubled by the enemy's gravity
+    // scale, it rises about 7.3 units, over the 6.3 unit steps of level 2; the navigation graph only links the
+    // jumps that this speed and CHASE_JUMP_RUN_SPEED can reach
+    static final float CHASE_JUMP_SPEED = 27;
+    // How fast a jumping chaser moves across once its feet are clear of the surface it is jumping onto
+    static final float CHASE_JUMP_RUN_SPEED = 12;
+    // Half the height of an enemy, from its centre down to its feet
+    private static final float ENEMY_HALF_HEIGHT = 2;
+    // How close a chasing enemy has to be to the start of a jump or drop to take it
+    private static final float LAUNCH_DISTANCE = 0.5f;
+
+    // Patrolling enemies
+    private Enemy[] patrollers = new Enemy[INITIAL_CAPACITY];
+    private float[] patrolSpeed = new float[INITIAL_CAPACITY];
+    private float[] patrolRight = new float[INITIAL_CAPACITY];
+    private float[] patrolLeft = new float[INITIAL_CAPACITY];
+    private boolean[] patrolFacingRight = new boolean[INITIAL_CAPACITY];
+    private boolean[] patrolAlive = new boolean[INITIAL_CAPACITY];
+    private boolean[] patrolAsleep = new boolean[INITIAL_CAPACITY];
+    private long[] patrolReached = new long[INITIAL_CAPACITY];
+    private int patrolCount;
+
+    // Enemies chasing the player along the ground
+    private Enemy[] chasers = new Enemy[INITIAL_CAPACITY];
+    private Player[] chaseTarget = new Player[INITIAL_CAPACITY];
+    private float[] chaseSpeed = new float[INITIAL_CAPACITY];
+    private boolean[] chaseAlive = new boolean[INITIAL_CAPACITY];
+    private boolean[] chaseAsleep = new boolean[INITIAL_CAPACITY];
+    private long[] chaseReached = new long[INITIAL_CAPACITY];
+    private int[] chaseSurface = new int[INITIAL_CAPACITY];
+    private int[] chaseGoal = new int[INITIAL_CAPACITY];
+    private int[] chaseLink = new int[INITIAL_CAPACITY];
+    private boolean[] chaseLaunched = new boolean[INITIAL_CAPACITY];
+    private NavGraph nav;
+    private int chaseCount;
+
+    // Flying enemies heading straight for the player
+    private FlyingEnemy[] flyers = new FlyingEnemy[INITIAL_CAPACITY];
+    private boolean[] flyAlive = new boolean[INITIAL_CAPACITY];
+    private boolean[] flyAsleep = new boolean[INITIAL_CAPACITY];
+    private long[] flyReached = new long[INITIAL_CAPACITY];
+    private int flyCount;
+
+    // Platforms following their waypoints
+    private MovingPlatform[] platforms = new MovingPlatform[INITIAL_CAPACITY];
+    private boolean[] platformAlive = new boolean[INITIAL_CAPACITY];
+    private int platformCount;
+
+    // The length of the last physics step, used to steer platforms
+    private float stepTime = 1 / 60f;
+
+    // Decides how often each enemy is updated, and where each kind resumes after running out of time
+    private final AiScheduler scheduler = new AiScheduler();
+    private int patrolCursor, chaseCursor, flyCursor;
+
+    // Reused for every vector handed to the engine, which copies it
+    private final Vec2 scratch = new Vec2();
+
+    /**
+     * Adds an enemy that patrols between two horizontal positions, turning round at each one.
+     *
+     * @param enemy The enemy that will be patrolling.
+     * @param speed The distance the enemy moves each step.
+     * @param rightBoundary The maximum rightward position the enemy can move to before turning back.
+     * @param leftBoundary The maximum leftward position the enemy can move to before turning back.
+     */
+    public void addPatrol(Enemy enemy, float speed, float rightBoundary, float leftBoundary) {
+        if (patrolCount == patrollers.length) {
+            int size = patrolCount * 2;
+            patrollers = Arrays.copyOf(patrollers, size);
+            patrolSpeed = Arrays.copyOf(patrolSpeed, size);
+            patrolRight = Arrays.copyOf(patrolRight, size);
+            patrolLeft = Arrays.copyOf(patrolLeft, size);
+            patrolFacingRight = Arrays.copyOf(patrolFacingRight, size);
+            patrolAlive = Arrays.copyOf(patrolAlive, size);
+            patrolAsleep = Arrays.copyOf(patrolAsleep, size);
+            patrolReached = Arrays.copyOf(patrolReached, size);
+        }
+        int i = patrolCount++;
+        patrollers[i] = enemy;
+        patrolSpeed[i] = Math.abs(speed);
+        patrolRight[i] = rightBoundary;
+        patrolLeft[i] = leftBoundary;
+        patrolFacingRight[i] = true;
+        patrolAlive[i] = true;
+        patrolReached[i] = scheduler.getStep();
+        enemy.addDestructionListener(e -> patrolAlive[i] = false);
+    }
+
+    /**
+     * Adds an enemy that walks towards the player's horizontal position.
+     *
+     * @param enemy The enemy that will follow the player.
+     * @param player The player that the enemy will follow.
+     * @param speed The speed at which the enemy will move towards the player.
+     */
+    public void addChase(Enemy enemy, Player player, float speed) {
+        if (chaseCount == chasers.length) {
+            int size = chaseCount * 2;
+            chasers = Arrays.copyOf(chasers, size);
+            chaseTarget = Arrays.copyOf(chaseTarget, size);
+            chaseSpeed = Arrays.copyOf(chaseSpeed, size);
+            chaseAlive = Arrays.copyOf(chaseAlive, size);
+            chaseAsleep = Arrays.copyOf(chaseAsleep, size);
+            chaseReached = Arrays.copyOf(chaseReached, size);
+            chaseSurface = Arrays.copyOf(chaseSurface, size);
+            chaseGoal = Arrays.copyOf(chaseGoal, size);
+            chaseLink = Arrays.copyOf(chaseLink, size);
+            chaseLaunched = Arrays.copyOf(chaseLaunched, size);
+        }
+        int i = chaseCount++;
+        chasers[i] = enemy;
+        chaseTarget[i] = player;
+        chaseSpeed[i] = speed;
+        chaseSurface[i] = -1;
+        chaseGoal[i] = -1;
+        chaseLink[i] = -1;
+        chaseAlive[i] = true;
+        chaseReached[i] = scheduler.getStep();
+        enemy.addDestructionListener(e -> chaseAlive[i] = false);
+    }
+
+    /**
+     * Adds a flying enemy that is updated every step.
+     *
+     * @param enemy The flying enemy to be updated.
+     */
+    public void addFlyer(FlyingEnemy enemy) {
+        if (flyCount == flyers.length) {
+            int size = flyCount * 2;
+            flyers = Arrays.copyOf(flyers, size);
+            flyAlive = Arrays.copyOf(flyAlive, size);
+            flyAsleep = Arrays.copyOf(flyAsleep, size);
+            flyReached = Arrays.copyOf(flyReached, size);
+        }
+        int i = flyCount++;
+        flyers[i] = enemy;
+        flyAlive[i] = true;
+        flyReached[i] = scheduler.getStep();
+        enemy.addDestructionListener(e -> flyAlive[i] = false);
+    }
+
+    /**
+     * Adds a platform that is steered along its waypoints every step.
+     *
+     * @param platform The platform to move.
+     */
+    public void addPlatform(MovingPlatform platform) {
+        if (platformCount == platforms.length) {
+            int size = platformCount * 2;
+            platforms = Arrays.copyOf(platforms, size);
+            platformAlive = Arrays.copyOf(platformAlive, size);
+        }
+        int i = platformCount++;
+        platforms[i] = platform;
+        platformAlive[i] = true;
+        platform.addDestructionListener(e -> platformAlive[i] = false);
+    }
+
+    /**
+     * Returns the scheduler that decides how often each enemy is updated.
+     *
+     * @return The AI scheduler of this system.
+     */
+    public AiScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Returns the total number of movers added to this system.
+     *
+     * @return The number of movers of all kinds.
+     */
+    public int size() {
+        return patrolCount + chaseCount + flyCount + platformCount;
+    }
+
+    /**
+     * No action taken before the physics step.
+     * @param e The event details of the pre-step phase.
+     */
+    @Override
+    public void preStep(StepEvent e) {
+    }
+
+    /**
+     * Updates every mover after each physics step.
+     *
+     * @param e The event details of the post-step phase.
+     */
+    @Override
+    public void postStep(StepEvent e) {
+        if (e.getStep() > 0) {
+            stepTime = e.getStep();
+        }
+        update();
+    }
+
+    /**
+     * Updates every mover once. This is what runs after each physics step.
+     */
+    public void update() {
+        scheduler.beginStep();
+        // A different kind of enemy goes first each step, so none always gets the budget first
+        int first = (int) (scheduler.getStep() % 3);
+        for (int k = 0; k < 3; k++) {
+            switch ((first + k) % 3) {
+                case 0:
+                    updatePatrols();
+                    break;
+                case 1:
+                    updateChasers();
+                    break;
+                default:
+                    updateFlyers();
+                    break;
+            }
+        }
+        scheduler.endStep();
+        updatePlatforms();
+    }
+
+    private void updatePatrols() {
+        int start = patrolCursor;
+        for (int k = 0; k < patrolCount; k++) {
+            int i = (start + k) % patrolCount;
+            if (!patrolAlive[i]) {
+                continue;
+            }
+            if (!scheduler.hasBudget()) {
+                patrolCursor = i;
+                return;
+            }
+            Enemy enemy = patrollers[i];
+            float x = enemy.getPosition().x;
+            if (!isDue(enemy, patrolAsleep, patrolReached, i)) {
+                // A patroller that could pass its turning point before its next update is updated now instead
+                float reach = patrolSpeed[i] * scheduler.rateOf(enemy);
+                if (patrolAsleep[i] || (patrolFacingRight[i] ? x + reach <= patrolRight[i]
+                        : x - reach >= patrolLeft[i])) {
+                    continue;
+                }
+            }
+
+            if (x > patrolRight[i]) {
+                patrolFacingRight[i] = false;
+            }
+            if (x < patrolLeft[i]) {
+                patrolFacingRight[i] = true;
+            }
+
+            // The engine keeps the enemy walking on the steps in between, so it moves the same distance per
+            // step whatever its rate, and is stopped by anything in its way
+            float speed = patrolSpeed[i] / stepTime;
+            if (patrolFacingRight[i]) {
+                enemy.startWalking(speed);
+                enemy.flipRight();
+            } else {
+                enemy.startWalking(-speed);
+                enemy.flipLeft();
+            }
+        }
+    }
+
+    private void updateChasers() {
+        int start = chaseCursor;
+        for (int k = 0; k < chaseCount; k++) {
+            int i = (start + k) % chaseCount;
+            if (!chaseAlive[i]) {
+                continue;
+            }
+            if (!scheduler.hasBudget()) {
+                chaseCursor = i;
+                return;
+            }
+            Enemy enemy = chasers[i];
+            // A chaser in the middle of a jump is steered every step until it lands
+            if (!isDue(enemy, chaseAsleep, chaseReached, i) && !chaseLaunched[i]) {
+                continue;
+            }
+            Vec2 position = enemy.getPosition();
+            Vec2 target = chaseTarget[i].getPosition();
+            float goalX = target.x;
+            float speed = chaseSpeed[i];
+            boolean jump = false;
+            if (nav == null) {
+                nav = NavGraph.of(enemy.getWorld());
+            }
+            if (nav != null) {
+                int from = nav.surfaceAt(position.x, position.y, chaseSurface[i]);
+                int to = nav.surfaceAt(target.x, target.y, chaseGoal[i]);
+                // The route only has to be looked up again when either end moves to another surface
+                if (from != chaseSurface[i] || to != chaseGoal[i]) {
+                    chaseSurface[i] = from;
+                    chaseGoal[i] = to;
+                    chaseLink[i] = from < 0 || to < 0 ? -1 : nav.nextLink(from, to);
+                    chaseLaunched[i] = false;
+                }
+                int link = chaseLink[i];
+                // Walk to the start of the link, and jump or step off once there
+                if (link >= 0 && !chaseLaunched[i]) {
+                    goalX = nav.getLaunchX(link);
+                    if (Math.abs(goalX - position.x) <= LAUNCH_DISTANCE) {
+                        chaseLaunched[i] = true;
+                        jump = nav.isJump(link);
+                    }
+                }
+                // Then head for the end of the link until the surface changes
+                if (link >= 0 && chaseLaunched[i]) {
+                    goalX = nav.getLandingX(link);
+                    boolean belowTop = position.y - ENEMY_HALF_HEIGHT < nav.getLandingTop(link);
+                    if (nav.isJump(link) && belowTop && (jump || enemy.getLinearVelocity().y > 0)) {
+                        // Go straight up until the feet are clear of the top, so as not to hit the edge
+                        goalX = position.x;
+                    } else if (nav.isJump(link) && belowTop
+                            || !nav.isJump(link) && Math.abs(goalX - position.x) <= LAUNCH_DISTANCE) {
+                        // The jump fell short or the drop did not happen, so walk straight for the player
+                        // until either of them moves to another surface
+                        chaseLink[i] = -1;
+                        chaseLaunched[i] = false;
+                        goalX = target.x;
+                    } else if (nav.isJump(link)) {
+                        speed = CHASE_JUMP_RUN_SPEED;
+                    }
+                }
+            }
+
+            float directionX = Math.signum(goalX - position.x);
+            enemy.setLinearVelocity(scratch.set(directionX * speed, enemy.getLinearVelocity().y));
+            if (jump) {
+                enemy.jump(CHASE_JUMP_SPEED);
+            }
+
+            if (directionX > 0) {
+                enemy.flipRight();
+            } else if (directionX < 0) {
+                enemy.flipLeft();
+            }
+        }
+    }
+
+    private void updateFlyers() {
+        int start = flyCursor;
+        for (int k = 0; k < flyCount; k++) {
+            int i = (start + k) % flyCount;
+            if (!flyAlive[i]) {
+                continue;
+            }
+            if (!scheduler.hasBudget()) {
+                flyCursor = i;
+                return;
+            }
+            if (isDue(flyers[i], flyAsleep, flyReached, i)) {
+                flyers[i].update();
+            }
+        }
+    }
+
+    // Checks whether an enemy should be updated now, because it is due or was due on a step it was not reached
+    // in, and records that it was reached; stops it when it falls asleep
+    private boolean isDue(Walker enemy, boolean[] asleep, long[] reached, int i) {
+        int rate = scheduler.rateOf(enemy);
+        boolean owed = scheduler.isOwed(rate, i, reached[i] + 1);
+        reached[i] = scheduler.getStep();
+        if (scheduler.isDue(rate, i) || owed) {
+            asleep[i] = false;
+            return true;
+        }
+        if (rate == AiScheduler.ASLEEP && !asleep[i]) {
+            enemy.stopWalking();
+            enemy.setLinearVelocity(scratch.set(0, 0));
+            asleep[i] = true;
+        }
+        return false;
+    }
+
+    private void updatePlatforms() {
+        for (int i = 0; i < platformCount; i++) {
+            if (platformAlive[i]) {
+                platforms[i].update(stepTime);
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package game;
+
+import city.cs.engine.*;
+import org.jbox2d.common.Vec2;
+
+/**
+ * A platform that travels along a path of waypoints at a steady speed.
+ * <p>
+ * The engine has no kinematic bodies, so the platform is a very heavy {@link DynamicBody} with no gravity,
+ * moved only by setting its velocity towards the next waypoint after every step. Unlike a static body moved
+ * with {@code setPosition}, it never jumps: the physics engine moves it, so a body standing on it is carried
+ * along by friction and pushed up by the contact, instead of sinking into it and being thrown out on the
+ * next step. Being so heavy, it is hardly slowed by the player, enemies or bullets, and any drift is
+ * corrected because the velocity always points at the next waypoint.
+ * </p>
+ * <p>
+ * A {@link Path#PING_PONG} path runs through the waypoints and back again; a {@link Path#LOOP} path goes
+ * from the last waypoint straight back to the first. Platforms are moved by the level's
+ * {@link MovementSystem}, and each update does the same small amount of work without allocating, so the cost
+ * of a level grows only in step with its number of platforms.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class MovingPlatform extends DynamicBody implements CategorizedBody {
+
+    /**
+     * How a platform goes on after reaching its last waypoint.
+     */
+    public enum Path {
+        /** Turns round and goes back through the waypoints in reverse. */
+        PING_PONG,
+        /** Goes straight back to the first waypoint and starts again. */
+        LOOP
+    }
+
+    // Heavy enough that nothing in the game can push the platform off its path
+    private static final float DENSITY = 1000;
+
+    private final float[] waypointX;
+    private final float[] waypointY;
+    private final float speed;
+    private final Path path;
+    private int target;
+    private int direction = 1;
+    private final Vec2 velocity = new Vec2();
+
+    /**
+     * Constructs a moving platform at its first waypoint, heading for the second.
+     *
+     * @param world The world in which this platform exists.
+     * @param halfWidth Half the width of the platform.
+     * @param halfHeight Half the height of the platform.
+     * @param speed The speed of the platform, in units per second.
+     * @param path Whether the platform turns round or starts again after its last waypoint.
+     * @param waypoints The points the platform travels through, at least two.
+     */
+    public MovingPlatform(World world, float halfWidth, float halfHeight, float speed, Path path, Vec2... waypoints) {
+        this(world, halfWidth, halfHeight, speed, path, waypoints.length > 0 ? waypoints[0] : null, 1, waypoints);
+    }
+
+    /**
+     * Constructs a moving platform anywhere on its path, such as part way between two waypoints.
+     *
+     * @param world The world in which this platform exists.
+     * @param halfWidth Half the width of the platform.
+     * @param halfHeight Half the height of the platform.
+     * @param speed The speed of the platform, in units per second.
+     * @param path Whether the platform turns round or starts again after its last waypoint.
+     * @param start The position the platform starts at.
+     * @param target The index of the waypoint the platform heads for first.
+     * @param waypoints The points the platform travels through, at least two.
+     */
+    public MovingPlatform(World world, float halfWidth, float halfHeight, float speed, Path path,
+                          Vec2 start, int target, Vec2... waypoints) {
+        super(world);
+        if (waypoints.length < 2) {
+            throw new IllegalArgumentException("A moving platform needs at least two waypoints");
+        }
+        if (target < 0 || target >= waypoints.length) {
+            throw new IllegalArgumentException("No such waypoint: " + target);
+        }
+        this.speed = speed;
+        this.path = path;
+        this.target = target;
+        waypointX = new float[waypoints.length];
+        waypointY = new float[waypoints.length];
+        for (int i = 0; i < waypoints.length; i++) {
+            waypointX[i] = waypoints[i].x;
+            waypointY[i] = waypoints[i].y;
+        }
+
+        LevelGeometry.Outline outline = LevelGeometry.Outline.box(halfWidth, halfHeight);
+        SolidFixture fixture = new SolidFixture(this, outline.getShape(), DENSITY);
+        fixture.setFriction(1);
+        setGravityScale(0);
+        setPosition(start);
+        LevelGeometry geometry = LevelGeometry.of(world);
+        if (geometry != null) {
+            geometry.addSolid(this, outline);
+        }
+    }
+
+    /**
+     * Steers the platform towards its current waypoint, moving on to the next one once it is reached.
+     *
+     * @param stepTime The length of a physics step, in seconds.
+     */
+    public void update(float stepTime) {
+        Vec2 position = getPosition();
+        float dx = waypointX[target] - position.x;
+        float dy = waypointY[target] - position.y;
+        float distance = (float) Math.sqrt(dx * dx + dy * dy);
+        if (distance <= speed * stepTime) {
+            advance();
+            dx = waypointX[target] - position.x;
+            dy = waypointY[target] - position.y;
+            distance = (float) Math.sqrt(dx * dx + dy * dy);
+        }
+        if (distance > 0) {
+            setLinearVelocity(velocity.set(dx * speed / distance, dy * speed / distance));
+        } else {
+            setLinearVelocity(velocity.set(0, 0));
+        }
+        // Bodies landing off-centre must not tip the platform over
+        setAngularVelocity(0);
+        if (getAngle() != 0) {
+            setAngle(0);
+        }
+    }
+
+    // Picks the waypoint after the current one
+    private void advance() {
+        if (path == Path.LOOP) {
+            target = (target + 1) % waypointX.length;
+            return;
+        }
+        if (target + direction < 0 || target + direction >= waypointX.length) {
+            direction = -direction;
+        }
+        target += direction;
+    }
+
+    /**
+     * Returns the index of the waypoint the platform is heading for.
+     *
+     * @return The current waypoint index.
+     */
+    public int getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the speed of the platform.
+     *
+     * @return The speed, in units per second.
+     */
+    public float getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Returns how the platform goes on after its last waypoint.
+     *
+     * @return The path type.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the collision category of a moving platform, which is level geometry like any other platform.
+     *
+     * @return {@link CollisionLayer#STATIC}.
+     */
+    @Override
+    public int getCategory() {
+        return CollisionLayer.STATIC;
+    }
+}
@@ -0,0 +1,430 @@
+package game;
+
+import city.cs.engine.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A map of the surfaces a walking enemy can stand on in a level, and of the jumps and drops between them.
+ * <p>
+ * The graph is built once per level from the {@link Platform}s recorded in its {@link LevelGeometry}. The top of
+ * every box wide enough for an enemy is a surface, split wherever a wall or another box stands in the way of
+ * an enemy walking along it. Surfaces are joined by links: a drop from an open end of a surface onto the
+ * highest surface below it, and a jump onto any higher surface that an enemy can reach. Moving platforms and
+ * doorways are left out, as the graph does not change once built.
+ * </p>
+ * <p>
+ * Whether a jump is in reach is worked out from how an enemy jumps: it leaves the ground at the jump speed,
+ * is slowed by gravity, and goes straight up until its feet are clear of the surface it is jumping onto, so
+ * that it does not hit the surface's edge. It then moves across at the run speed, and must be over the
+ * surface before its feet drop below the top again. A jump is only linked if that leaves half a unit to spare
+ * both in height and across.
+ * </p>
+ * <p>
+ * After the links are found, the cheapest route between every pair of surfaces is worked out and only the
+ * first link of each route is kept, in a table indexed by the two surfaces. A chasing enemy therefore never
+ * searches the graph: it looks up which surface it and its target are on, usually in constant time by
+ * checking the surface they were on last, and then reads the link to take from the table.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class NavGraph {
+    /** Half the width of a walking enemy. */
+    private static final float HALF_WIDTH = 1;
+    /** The height of a walking enemy, which a surface must keep clear to be walked on. */
+    private static final float CLEARANCE = 4;
+    /** The height and distance an enemy jump must have to spare to be linked. */
+    private static final float JUMP_MARGIN = 0.5f;
+    /** The widest gap that an enemy jump is ever linked across. */
+    private static final float MAX_JUMP_GAP = 6;
+    /** How far an enemy stands from the edge of a surface above it before jumping up onto it. */
+    private static final float JUMP_RUN_UP = 2;
+    /** How far above a surface a body can be and still be taken as standing on the surface it was on before. */
+    private static final float STANDING_HEIGHT = 3;
+    private static final float EPSILON = 0.01f;
+
+    private final float[] left, right, top;
+    private final boolean[] leftOpen, rightOpen;
+    private final int surfaceCount;
+    private final float jumpSpeed, runSpeed, gravity;
+
+    private int[] linkFrom = new int[16], linkTo = new int[16];
+    private float[] linkLaunchX = new float[16], linkLandingX = new float[16];
+    private boolean[] linkJump = new boolean[16];
+    private int linkCount;
+
+    // The first link of the cheapest route from one surface to another, or -1
+    private final int[] nextLink;
+
+    /**
+     * Returns the navigation graph of the level a world belongs to, building it if necessary.
+     *
+     * @param world The world to look up.
+     * @return The level's graph, or {@code null} if the world is not a {@link GameLevel}.
+     */
+    public static NavGraph of(World world) {
+        if (world instanceof GameLevel) {
+            return ((GameLevel) world).getNavGraph();
+        }
+        return null;
+    }
+
+    /**
+     * Builds the graph of a level from the platforms in its geometry.
+     *
+     * @param geometry The level's geometry, with all of its platforms already added.
+     * @param jumpSpeed The upward speed at which an enemy leaves the ground when it jumps.
+     * @param runSpeed The speed at which a jumping enemy moves across once its feet are clear of the top.
+     * @param gravity The downward acceleration of an enemy, with its gravity scale applied.
+     * @return The new graph.
+     */
+    public static NavGraph build(LevelGeometry geometry, float jumpSpeed, float runSpeed, float gravity) {
+        List<float[]> boxes = new ArrayList<>();
+        for (int i = 0; i < geometry.getSolidCount(); i++) {
+            Body body = geometry.getSolid(i);
+            if (!geometry.isSolidAlive(i) || !(body instanceof Platform)) {
+                continue;
+            }
+            float x = body.getPosition().x;
+            float y = body.getPosition().y;
+            float hw = geometry.getSolidHalfWidth(i);
+            float hh = geometry.getSolidHalfHeight(i);
+            boxes.add(new float[] {x - hw, x + hw, y - hh, y + hh});
+        }
+
+        // Each surface is {left, right, top, left open, right open}
+        List<float[]> surfaces = new ArrayList<>();
+        for (float[] box : boxes) {
+            List<float[]> pieces = new ArrayList<>();
+            pieces.add(new float[] {box[0], box[1], 1, 1});
+            for (float[] other : boxes) {
+                if (other == box || other[1] <= box[0] || other[0] >= box[1]) {
+                    continue;
+                }
+                if (other[3] > box[3] + EPSILON && other[2] < box[3] + CLEARANCE) {
+                    pieces = cut(pieces, other[0] - HALF_WIDTH, other[1] + HALF_WIDTH);
+                }
+            }
+            for (float[] piece : pieces) {
+                if (piece[1] - piece[0] >= 2 * HALF_WIDTH) {
+                    surfaces.add(new float[] {piece[0], piece[1], box[3], piece[2], piece[3]});
+                }
+            }
+        }
+        return new NavGraph(surfaces, jumpSpeed, runSpeed, gravity);
+    }
+
+    // Removes the span from blockedLeft to blockedRight from a list of {left, right, left open, right open} pieces
+    private static List<float[]> cut(List<float[]> pieces, float blockedLeft, float blockedRight) {
+        List<float[]> result = new ArrayList<>();
+        for (float[] piece : pieces) {
+            if (blockedRight <= piece[0] || blockedLeft >= piece[1]) {
+                result.add(piece);
+                continue;
+            }
+            if (blockedLeft > piece[0]) {
+                result.add(new float[] {piece[0], blockedLeft, piece[2], 0});
+            }
+            if (blockedRight < piece[1]) {
+                result.add(new float[] {blockedRight, piece[1], 0, piece[3]});
+            }
+        }
+        return result;
+    }
+
+    private NavGraph(List<float[]> surfaces, float jumpSpeed, float runSpeed, float gravity) {
+        this.jumpSpeed = jumpSpeed;
+        this.runSpeed = runSpeed;
+        this.gravity = gravity;
+        surfaceCount = surfaces.size();
+        left = new float[surfaceCount];
+        right = new float[surfaceCount];
+        top = new float[surfaceCount];
+        leftOpen = new boolean[surfaceCount];
+        rightOpen = new boolean[surfaceCount];
+        for (int i = 0; i < surfaceCount; i++) {
+            float[] surface = surfaces.get(i);
+            left[i] = surface[0];
+            right[i] = surface[1];
+            top[i] = surface[2];
+            leftOpen[i] = surface[3] != 0;
+            rightOpen[i] = surface[4] != 0;
+        }
+
+        for (int a = 0; a < surfaceCount; a++) {
+            if (leftOpen[a]) {
+                addDrop(a, left[a], left[a] - HALF_WIDTH - 0.5f);
+            }
+            if (rightOpen[a]) {
+                addDrop(a, right[a], right[a] + HALF_WIDTH + 0.5f);
+            }
+            for (int b = 0; b < surfaceCount; b++) {
+                float rise = top[b] - top[a];
+                if (b != a && rise > EPSILON && rise <= getMaxJumpHeight()) {
+                    addJump(a, b);
+                }
+            }
+        }
+        nextLink = routes();
+    }
+
+    // Adds a drop from the end of a surface onto the highest surface below the point where an enemy lands
+    private void addDrop(int from, float launchX, float landingX) {
+        int best = -1;
+        for (int b = 0; b < surfaceCount; b++) {
+            if (top[b] < top[from] - EPSILON && landingX >= left[b] && landingX <= right[b]
+                    && (best < 0 || top[b] > top[best])) {
+                best = b;
+            }
+        }
+        if (best >= 0) {
+            addLink(from, best, launchX, landingX, false);
+        }
+    }
+
+    // Adds a jump up onto a higher surface, if one is within reach
+    private void addJump(int from, int to) {
+        if (left[to] > right[from]) {
+            if (left[to] - right[from] <= MAX_JUMP_GAP) {
+                addReachableJump(from, to, right[from], left[to] + HALF_WIDTH);
+            }
+        } else if (right[to] < left[from]) {
+            if (left[from] - right[to] <= MAX_JUMP_GAP) {
+                addReachableJump(from, to, left[from], right[to] - HALF_WIDTH);
+            }
+        } else if (left[to] - JUMP_RUN_UP >= left[from]) {
+            // The higher surface is overhead, so jump up past one of its ends
+            addReachableJump(from, to, left[to] - JUMP_RUN_UP, left[to] + HALF_WIDTH);
+        } else if (right[to] + JUMP_RUN_UP <= right[from]) {
+            addReachableJump(from, to, right[to] + JUMP_RUN_UP, right[to] - HALF_WIDTH);
+        }
+    }
+
+    // Adds a jump if, with its feet clear of the top, an enemy can get its centre over the higher surface in time
+    private void addReachableJump(int from, int to, float launchX, float landingX) {
+        float height = top[to] - top[from] + JUMP_MARGIN;
+        float speedSquaredAtTop = jumpSpeed * jumpSpeed - 2 * gravity * height;
+        if (speedSquaredAtTop < 0) {
+            return;
+        }
+        // The time between the feet rising past the top and falling back past it
+        float airTime = 2 * (float) Math.sqrt(speedSquaredAtTop) / gravity;
+        float across = Math.abs(landingX - launchX) - HALF_WIDTH + JUMP_MARGIN;
+        if (runSpeed * airTime >= across) {
+            addLink(from, to, launchX, landingX, true);
+        }
+    }
+
+    private void addLink(int from, int to, float launchX, float landingX, boolean jump) {
+        if (linkCount == linkFrom.length) {
+            int size = linkCount * 2;
+            linkFrom = Arrays.copyOf(linkFrom, size);
+            linkTo = Arrays.copyOf(linkTo, size);
+            linkLaunchX = Arrays.copyOf(linkLaunchX, size);
+            linkLandingX = Arrays.copyOf(linkLandingX, size);
+            linkJump = Arrays.copyOf(linkJump, size);
+        }
+        int i = linkCount++;
+        linkFrom[i] = from;
+        linkTo[i] = to;
+        linkLaunchX[i] = launchX;
+        linkLandingX[i] = landingX;
+        linkJump[i] = jump;
+    }
+
+    // Finds the cheapest route between every pair of surfaces and keeps the first link of each
+    private int[] routes() {
+        int n = surfaceCount;
+        float[] cost = new float[n * n];
+        int[] next = new int[n * n];
+        Arrays.fill(cost, Float.POSITIVE_INFINITY);
+        Arrays.fill(next, -1);
+        for (int i = 0; i < n; i++) {
+            cost[i * n + i] = 0;
+        }
+        for (int l = 0; l < linkCount; l++) {
+            int a = linkFrom[l];
+            int b = linkTo[l];
+            // Walking to the link and away from it, plus the height, counted twice for a jump
+            float c = Math.abs(linkLaunchX[l] - (left[a] + right[a]) / 2)
+                    + Math.abs(linkLandingX[l] - (left[b] + right[b]) / 2)
+                    + Math.abs(top[b] - top[a]) * (linkJump[l] ? 2 : 1);
+            if (c < cost[a * n + b]) {
+                cost[a * n + b] = c;
+                next[a * n + b] = l;
+            }
+        }
+        for (int k = 0; k < n; k++) {
+            for (int i = 0; i < n; i++) {
+                float viaK = cost[i * n + k];
+                if (viaK == Float.POSITIVE_INFINITY) {
+                    continue;
+                }
+                for (int j = 0; j < n; j++) {
+                    if (viaK + cost[k * n + j] < cost[i * n + j]) {
+                        cost[i * n + j] = viaK + cost[k * n + j];
+                        next[i * n + j] = next[i * n + k];
+                    }
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Finds the surface a body is standing on, or would land on, from the position of its centre.
+     * <p>
+     * If the body is still just above the surface it was last on, that surface is returned without looking
+     * at any other, so for a body that stays on one surface the answer takes constant time.
+     * </p>
+     *
+     * @param x The horizontal position of the body.
+     * @param y The vertical position of the body.
+     * @param last The surface the body was last found on, or -1.
+     * @return The surface under the body, or -1 if there is none.
+     */
+    public int surfaceAt(float x, float y, int last) {
+        if (last >= 0 && last < surfaceCount && covers(last, x) && y >= top[last]
+                && y - top[last] <= STANDING_HEIGHT) {
+            return last;
+        }
+        int best = -1;
+        for (int i = 0; i < surfaceCount; i++) {
+            if (covers(i, x) && top[i] <= y && (best < 0 || top[i] > top[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    // A body stays on a surface until its centre is half its width past the end
+    private boolean covers(int surface, float x) {
+        return x >= left[surface] - HALF_WIDTH && x <= right[surface] + HALF_WIDTH;
+    }
+
+    /**
+     * Returns the first link to take to get from one surface to another.
+     *
+     * @param from The surface to start from.
+     * @param to The surface to reach.
+     * @return The link, or -1 if the surfaces are the same or there is no way between them.
+     */
+    public int nextLink(int from, int to) {
+        return nextLink[from * surfaceCount + to];
+    }
+
+    /**
+     * Returns where an enemy must be to take a link.
+     *
+     * @param link The link.
+     * @return The horizontal position at which to jump or step off.
+     */
+    public float getLaunchX(int link) {
+        return linkLaunchX[link];
+    }
+
+    /**
+     * Returns where an enemy taking a link should head for once it has set off.
+     *
+     * @param link The link.
+     * @return The horizontal position on the surface the link leads to.
+     */
+    public float getLandingX(int link) {
+        return linkLandingX[link];
+    }
+
+    /**
+     * Checks whether a link is a jump rather than a drop.
+     *
+     * @param link The link.
+     * @return true if the enemy has to jump to take it.
+     */
+    public boolean isJump(int link) {
+        return linkJump[link];
+    }
+
+    /**
+     * Returns the height of the top of the surface a link leads to.
+     *
+     * @param link The link.
+     * @return The top of the surface at the end of the link.
+     */
+    public float getLandingTop(int link) {
+        return top[linkTo[link]];
+    }
+
+    /**
+     * Returns the highest an enemy's jump rises, less the height it must have to spare.
+     *
+     * @return The highest step up that a jump can be linked over.
+     */
+    public float getMaxJumpHeight() {
+        return jumpSpeed * jumpSpeed / (2 * gravity) - JUMP_MARGIN;
+    }
+
+    /**
+     * Returns the surface a link leads to.
+     *
+     * @param link The link.
+     * @return The surface at the end of the link.
+     */
+    public int getLinkTarget(int link) {
+        return linkTo[link];
+    }
+
+    /**
+     * Returns the number of walkable surfaces in the level.
+     *
+     * @return The surface count.
+     */
+    public int getSurfaceCount() {
+        return surfaceCount;
+    }
+
+    /**
+     * Returns the number of jumps and drops between surfaces.
+     *
+     * @return The link count.
+     */
+    public int getLinkCount() {
+        return linkCount;
+    }
+
+    /**
+     * Returns the number of ordered pairs of different surfaces with a route from the first to the second.
+     *
+     * @return The connected pair count, at most the square of the surface count less the surface count.
+     */
+    public int getConnectedPairCount() {
+        int connected = 0;
+        for (int i = 0; i < nextLink.length; i++) {
+            if (nextLink[i] >= 0) {
+                connected++;
+            }
+        }
+        return connected;
+    }
+
+    /**
+     * Returns a listing of every surface and link, one per line.
+     *
+     * @return The listing.
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < surfaceCount; i++) {
+            text.append(String.format("surface %d: %.1f to %.1f at %.1f%n", i, left[i], right[i], top[i]));
+        }
+        for (int l = 0; l < linkCount; l++) {
+            text.append(String.format("link %d: %s from surface %d at %.1f to surface %d at %.1f%n", l,
+                    linkJump[l] ? "jump" : "drop", linkFrom[l], linkLaunchX[l], linkTo[l], linkLandingX[l]));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,73 @@
+package game;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Measures how long each phase of a multi-step operation takes, such as changing level.
+ * <p>
+ * The timer starts when it is created. Each call to {@link #mark(String)} ends the current phase, records its
+ * duration under the given name and starts the next phase. The results can be read back or printed as one
+ * line.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class PhaseTimer {
+    private final String name;
+    private final long start;
+    private long last;
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+
+    /**
+     * Starts timing an operation.
+     *
+     * @param name The name of the operation, used when printing the results.
+     */
+    public PhaseTimer(String name) {
+        this.name = name;
+        this.start = System.nanoTime();
+        this.last = start;
+    }
+
+    /**
+     * Ends the current phase and starts the next one.
+     *
+     * @param phase The name of the phase that has just finished.
+     */
+    public void mark(String phase) {
+        long now = System.nanoTime();
+        phases.merge(phase, now - last, Long::sum);
+        last = now;
+    }
+
+    /**
+     * Returns the duration of every phase, in the order the phases finished.
+     *
+     * @return A read-only map from phase name to duration in nanoseconds.
+     */
+    public Map<String, Long> getPhases() {
+        return Collections.unmodifiableMap(phases);
+    }
+
+    /**
+     * Returns the time from the start of the operation to the end of the last phase.
+     *
+     * @return The total duration in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return last - start;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(name).append(':');
+        for (Map.Entry<String, Long> phase : phases.entrySet()) {
+            text.append(String.format(" %s %.1f ms,", phase.getKey(), phase.getValue() / 1e6));
+        }
+        return text.append(String.format(" total %.1f ms", getTotalNanos() / 1e6)).toString();
+    }
+}
@@ -0,0 +1,37 @@
+package game;
+
+import city.cs.engine.*;
+
+/**
+ * A static box of level geometry, such as a platform, floor or wall.
+ * <p>
+ * Platforms are created with {@link GameLevel#addPlatform(float, float, float, float)}, which also records
+ * them in the level's {@link LevelGeometry}.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class Platform extends StaticBody implements CategorizedBody {
+
+    /**
+     * Constructs a platform with the given box shape.
+     *
+     * @param world The world in which this platform exists.
+     * @param shape The shape of the platform.
+     */
+    public Platform(World world, Shape shape) {
+        super(world, shape);
+    }
+
+    /**
+     * Returns the collision category of a platform.
+     *
+     * @return {@link CollisionLayer#STATIC}.
+     */
+    @Override
+    public int getCategory() {
+        return CollisionLayer.STATIC;
+    }
+}
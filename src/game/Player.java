@@ -2,10 +2,6 @@ package game;
 
 import city.cs.engine.*;
 
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
-import java.io.IOException;
-
 /**
  * Represents a player in the game with various states and behaviors such as moving left and right,
  * idle states, and attacking mechanisms. The player can also manage health and armor states,
@@ -21,26 +17,32 @@ import java.io.IOException;
  * @version 1.0
  * @since 1.0
  */
-public class Player extends Walker {
+public class Player extends Walker implements CategorizedBody {
     private static final Shape playerShape =
             new BoxShape(1, 2);
-    private static final BodyImage imageright =
-            new BodyImage("data/PlayerRunningRight.gif", 4f);
-    private static final BodyImage imageLeft =
-            new BodyImage("data/PlayerRunningLeft.gif", 4f);
 
-    private static final BodyImage idleright =
-            new BodyImage("data/Player.gif", 4f);
+    /**
+     * The animations the player can show. The player only changes its sprite when it moves to a different state.
+     */
+    public enum State {
+        RUNNING_RIGHT("data/PlayerRunningRight.gif"),
+        RUNNING_LEFT("data/PlayerRunningLeft.gif"),
+        IDLE_RIGHT("data/Player.gif"),
+        IDLE_LEFT("data/PlayerLeft.gif"),
+        GUN_RIGHT("data/PlayerwithGun.gif"),
+        GUN_LEFT("data/PlayerwithGunLeft.gif");
+
+        private final SpriteImage image;
 
-    private static final BodyImage idleleft =
-            new BodyImage("data/PlayerLeft.gif", 4f);
+        State(String path) {
+            image = new SpriteImage(path, 4f);
+        }
+    }
 
-    private static final BodyImage gunright =
-            new BodyImage("data/PlayerwithGun.gif", 4f);
-    private static final BodyImage gunleft =
-            new BodyImage("data/PlayerwithGunLeft.gif", 4f);
     private static int health, armour;
     private static SoundClip playerdeath, gameover;
+    private final Sprite sprite;
+    private State state = State.IDLE_RIGHT;
 
     /**
      * Constructs a Player object with initial settings.
@@ -49,58 +51,80 @@ public class Player extends Walker {
      */
     public Player(World world) {
         super(world, playerShape);
-        addImage(idleright);
+        sprite = new Sprite(world, this, state.image);
         world.setGravity(25);
+    }
+
+    /**
+     * Gives the player full starting health and no armour. Called when a level is entered, not when a
+     * player is created, so that building a level ahead of time does not change the current player's stats.
+     */
+    public static void resetStats() {
         health = 3;
         armour = 0;
     }
 
+    /**
+     * Moves the player's sprite to a new state, changing the shown image only if the state is different.
+     *
+     * @param newState The state to show.
+     */
+    public void setState(State newState) {
+        if (newState != state) {
+            state = newState;
+            sprite.setImage(newState.image);
+        }
+    }
+
+    /**
+     * Returns the state the player's sprite is currently showing.
+     *
+     * @return The current sprite state.
+     */
+    public State getState() {
+        return state;
+    }
+
     /**
      * Flips the player's image to the right.
      */
     public void flipImageright() {
-        removeAllImages();
-        addImage(imageright);
+        setState(State.RUNNING_RIGHT);
     }
 
     /**
      * Flips the player's image to the left.
      */
     public void flipImageleft() {
-        removeAllImages();
-        addImage(imageLeft);
+        setState(State.RUNNING_LEFT);
     }
 
     /**
      * Sets the player to idle facing right.
      */
     public void idleright() {
-        removeAllImages();
-        addImage(idleright);
+        setState(State.IDLE_RIGHT);
     }
 
     /**
      * Sets the player to idle facing left.
      */
     public void idleleft() {
-        removeAllImages();
-        addImage(idleleft);
+        setState(State.IDLE_LEFT);
     }
 
     /**
      * Sets the player to a gun-holding position facing left.
      */
     public void gunleft() {
-        removeAllImages();
-        addImage(gunleft);
+        setState(State.GUN_LEFT);
     }
 
     /**
      * Sets the player to a gun-holding position facing right.
      */
     public void gunright() {
-        removeAllImages();
-        addImage(gunright);
+        setState(State.GUN_RIGHT);
     }
 
     /**
@@ -179,19 +203,11 @@ public class Player extends Walker {
 
     // Static initializer blocks to load sound clips.
     static {
-        try {
-            playerdeath = new SoundClip("data/PlayerDeath.wav");
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            System.out.println(e);
-        }
+        playerdeath = GameAudio.load("data/PlayerDeath.wav");
     }
 
     static {
-        try {
-            gameover = new SoundClip("data/Gameover.wav");
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            System.out.println(e);
-        }
+        gameover = GameAudio.load("data/Gameover.wav");
     }
 
     /**
@@ -200,13 +216,18 @@ public class Player extends Walker {
     @Override
     public void destroy()
     {
-        playerdeath.play();
-        gameover.play();
+        GameAudio.play(playerdeath);
+        GameAudio.play(gameover);
         super.destroy();
     }
 
-    public void destroy2()
-    {
-        super.destroy();
+    /**
+     * Returns the collision category of the player.
+     *
+     * @return {@link CollisionLayer#PLAYER}.
+     */
+    @Override
+    public int getCategory() {
+        return CollisionLayer.PLAYER;
     }
 }
@@ -27,7 +27,7 @@ import javax.sound.sampled.UnsupportedAudioFileException;
  * @version 1.0
  * @since 1.0
  */
-public class PlayerController implements StepListener, KeyListener, MouseListener {
+public class PlayerController implements KeyListener, MouseListener {
     private Player player;
     private float speed, jumpImpulse;
 
@@ -47,15 +47,6 @@ public class PlayerController implements StepListener, KeyListener, MouseListene
         this.speed = speed;
     }
 
-    /**
-     * Checks and updates the gun possession status of the player based on the player's position.
-     */
-    public void updateHasGun() {
-        if (player.getPosition().x >= -3 && player.getPosition().x <= 3 && player.getPosition().y >= 12 && player.getPosition().y <= 14) {
-            hasGun = true;
-        }
-    }
-
     /**
      * Sets the gun possession status to true.
      */
@@ -63,27 +54,6 @@ public class PlayerController implements StepListener, KeyListener, MouseListene
         hasGun = true;
     }
 
-    /**
-     * Invoked before each physics step.
-     * This method is used to update the state of the game or player before physics calculations.
-     *
-     * @param stepEvent Provides context about the current step event, not currently used.
-     */
-    @Override
-    public void preStep(StepEvent stepEvent) {
-        updateHasGun();
-    }
-
-    /**
-     * Invoked after each physics step.
-     * Can be used to implement any necessary post-step processing, currently does nothing.
-     *
-     * @param stepEvent Provides context about the current step event, not currently used.
-     */
-    @Override
-    public void postStep(StepEvent stepEvent) {
-    }
-
     /**
      * Not used, implemented method from the KeyListener interface.
      *
@@ -142,24 +112,15 @@ public class PlayerController implements StepListener, KeyListener, MouseListene
 
     /**
      * Handles mouse click events to shoot bullets if the player has a gun.
-     * Creates and shoots a bullet in the direction the player is facing when the mouse button is clicked.
+     * Fires the level's {@link Weapon} in the direction the player is facing when the mouse button is clicked.
+     * Depending on the weapon mode the shot is a pooled bullet or an instant hitscan shot.
      *
      * @param e The MouseEvent containing details about the mouse click.
      */
     @Override
     public void mouseClicked(MouseEvent e) {
         if (hasGun) {
-            if (right) {
-                Bullets bullet = new Bullets(player.getWorld());
-                bullet.setPosition(new Vec2(player.getPosition().x + 2, player.getPosition().y));
-                bullet.setLinearVelocity(new Vec2(20, 0));
-                bullet.addCollisionListener(new BulletCollision(bullet));
-            } else {
-                Bullets bullet = new Bullets(player.getWorld());
-                bullet.setPosition(new Vec2(player.getPosition().x - 2, player.getPosition().y));
-                bullet.setLinearVelocity(new Vec2(-20, 0));
-                bullet.addCollisionListener(new BulletCollision(bullet));
-            }
+            ((GameLevel) player.getWorld()).getWeapon().fire(player, right);
         }
     }
 
@@ -2,10 +2,6 @@ package game;
 
 import city.cs.engine.*;
 
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
-import java.io.IOException;
-
 /**
  * Represents a portal in a game world, which is a special type of doorway that emits sound when destroyed.
  * This class extends {@link Doorway} to include a sound effect that plays upon the portal's destruction.
@@ -30,16 +26,12 @@ public class Portal extends Doorway{
      * @param world The game world in which this portal exists. It must be a valid instance of {@link World}.
      */
     public Portal(World world) {
-        super(world, new CircleShape(1.4f),"data/200w.gif",4f);
+        super(world, LevelGeometry.Outline.circle(1.4f), "data/200w.gif", 4f);
     }
 
     // Static initializer block to load the sound file used by all instances of this class.
     static {
-        try {
-            portal = new SoundClip("data/Portal.wav");
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            System.out.println(e);
-        }
+        portal = GameAudio.load("data/Portal.wav");
     }
 
     /**
@@ -49,7 +41,7 @@ public class Portal extends Doorway{
     @Override
     public void destroy()
     {
-        portal.play();
+        GameAudio.play(portal);
         super.destroy();
     }
 }
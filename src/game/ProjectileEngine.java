@@ -0,0 +1,212 @@
+package game;
+
+import city.cs.engine.*;
+import org.jbox2d.common.Vec2;
+
+import java.awt.*;
+import java.awt.geom.Path2D;
+import java.awt.geom.Point2D;
+
+/**
+ * Moves large numbers of projectiles without giving each one a physics body.
+ * <p>
+ * Each {@link GameLevel} owns one engine, stepped with the world. The position, velocity and remaining
+ * lifetime of every live projectile are kept in flat float arrays. After each physics step every projectile
+ * is moved along its velocity, and the segment it swept during the step is tested against the
+ * {@link LevelGeometry}, so fast projectiles cannot pass through thin platforms or enemies. A projectile
+ * that meets an enemy deals damage through {@link BulletCollision#damage(Body)}, the same rules as a bullet
+ * body, and any projectile that hits something or runs out of lifetime is removed by moving the last live
+ * projectile into its slot.
+ * </p>
+ * <p>
+ * The engine has a fixed capacity, so stepping and firing never allocate; projectiles spawned while it is
+ * full are dropped and counted. All projectiles are drawn together as a single filled shape by
+ * {@link #paint(Graphics2D, UserView)}, which {@link GameView} calls every frame.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class ProjectileEngine implements StepListener {
+    private static final Color COLOUR = new Color(255, 220, 80);
+
+    private final GameLevel level;
+    private final float[] x, y, vx, vy, life;
+    private int count;
+    private final float radius;
+    private long dropped, enemyHits;
+    private final LevelGeometry.Hit hit = new LevelGeometry.Hit();
+    private final Path2D.Float batch = new Path2D.Float();
+    private final Vec2 origin = new Vec2();
+
+    /**
+     * Constructs an empty projectile engine for a level.
+     *
+     * @param level The level whose geometry projectiles collide with.
+     * @param capacity The maximum number of live projectiles.
+     * @param radius The size at which projectiles are drawn, in world units.
+     */
+    public ProjectileEngine(GameLevel level, int capacity, float radius) {
+        this.level = level;
+        this.radius = radius;
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        life = new float[capacity];
+    }
+
+    /**
+     * Launches a projectile.
+     *
+     * @param px The horizontal starting position.
+     * @param py The vertical starting position.
+     * @param pvx The horizontal velocity, in world units per second.
+     * @param pvy The vertical velocity, in world units per second.
+     * @param lifetime The time in seconds after which the projectile disappears if it has not hit anything.
+     * @return true if the projectile was launched, false if the engine is full.
+     */
+    public boolean spawn(float px, float py, float pvx, float pvy, float lifetime) {
+        if (count == x.length) {
+            dropped++;
+            return false;
+        }
+        int i = count++;
+        x[i] = px;
+        y[i] = py;
+        vx[i] = pvx;
+        vy[i] = pvy;
+        life[i] = lifetime;
+        return true;
+    }
+
+    /**
+     * Returns the number of live projectiles.
+     *
+     * @return The projectile count.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the maximum number of live projectiles.
+     *
+     * @return The engine capacity.
+     */
+    public int getCapacity() {
+        return x.length;
+    }
+
+    /**
+     * Returns how many projectiles were not launched because the engine was full.
+     *
+     * @return The number of dropped projectiles.
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Returns how many projectiles have hit an enemy.
+     *
+     * @return The enemy hit count.
+     */
+    public long getEnemyHits() {
+        return enemyHits;
+    }
+
+    /**
+     * Removes every live projectile.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * No action taken before the physics step.
+     * @param e The event details of the pre-step phase.
+     */
+    @Override
+    public void preStep(StepEvent e) {
+    }
+
+    /**
+     * Moves every projectile by one step, resolving hits along the way.
+     *
+     * @param e The event details of the post-step phase.
+     */
+    @Override
+    public void postStep(StepEvent e) {
+        update(e.getStep());
+    }
+
+    /**
+     * Moves every projectile by the given time, resolving hits along the way.
+     *
+     * @param dt The time to advance, in seconds.
+     */
+    public void update(float dt) {
+        LevelGeometry geometry = level.getGeometry();
+        int i = 0;
+        while (i < count) {
+            float nx = x[i] + vx[i] * dt;
+            float ny = y[i] + vy[i] * dt;
+            life[i] -= dt;
+            if (geometry.raycast(x[i], y[i], nx, ny, hit)) {
+                if (hit.isTarget()) {
+                    enemyHits++;
+                    BulletCollision.damage(hit.getBody());
+                }
+                remove(i);
+            } else if (life[i] <= 0) {
+                remove(i);
+            } else {
+                x[i] = nx;
+                y[i] = ny;
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Draws every live projectile as part of one filled shape.
+     *
+     * @param g The graphics context of the view, in view coordinates.
+     * @param view The view that is being painted.
+     */
+    public void paint(Graphics2D g, UserView view) {
+        int n = count;
+        if (n == 0) {
+            return;
+        }
+        // World to view is a scale and a shift, so one conversion of the origin is enough
+        Point2D.Float centre = view.worldToView(origin);
+        float zoom = view.getZoom();
+        float size = Math.max(2, radius * 2 * zoom);
+
+        batch.reset();
+        for (int i = 0; i < n; i++) {
+            float left = centre.x + x[i] * zoom - size / 2;
+            float top = centre.y - y[i] * zoom - size / 2;
+            batch.moveTo(left, top);
+            batch.lineTo(left + size, top);
+            batch.lineTo(left + size, top + size);
+            batch.lineTo(left, top + size);
+            batch.closePath();
+        }
+        g.setColor(COLOUR);
+        g.fill(batch);
+    }
+
+    // Moves the last projectile into the freed slot
+    private void remove(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        life[i] = life[last];
+    }
+}
@@ -0,0 +1,178 @@
+package game;
+
+import city.cs.engine.*;
+import org.jbox2d.common.Vec2;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+
+/**
+ * Draws a {@link SpriteImage} on top of a body, in place of an attached engine image.
+ * <p>
+ * A sprite follows its body's position and angle and is drawn by the {@link SpriteLayer} of the level the
+ * body lives in. The body's own outline is made invisible so that only the sprite is seen. When the body
+ * is destroyed the sprite removes itself from the layer. Animated images start from their first frame
+ * whenever the sprite switches to them.
+ * </p>
+ * <p>
+ * A sprite can also bob up and down above and below its body. The bob is worked out from the animation
+ * clock each time the sprite is drawn and never moves the body, so a floating pickup costs nothing in the
+ * physics step.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class Sprite {
+    private static final Color INVISIBLE = new Color(0, 0, 0, 0);
+    private static long swaps, sampledSwaps, sampleTime = System.nanoTime();
+    private static float swapsPerSecond;
+
+    private final Body body;
+    private final SpriteLayer layer;
+    private SpriteImage image;
+    private long animationStart;
+    private boolean visible = true;
+    private float bobHeight, bobPeriod;
+    private long bobStart;
+
+    /**
+     * Constructs a sprite for a body and adds it to the level the body belongs to.
+     *
+     * @param world The world the body belongs to.
+     * @param body The body the sprite is drawn on.
+     * @param image The image to show first.
+     */
+    public Sprite(World world, Body body, SpriteImage image) {
+        this.body = body;
+        this.image = image;
+        body.setFillColor(INVISIBLE);
+        body.setLineColor(INVISIBLE);
+        layer = SpriteLayer.of(world);
+        if (layer != null) {
+            animationStart = layer.getClock().now();
+            layer.add(this);
+            body.addDestructionListener(e -> layer.remove(this));
+        }
+    }
+
+    /**
+     * Changes the image shown by this sprite.
+     *
+     * @param newImage The image to show.
+     */
+    public void setImage(SpriteImage newImage) {
+        if (newImage != image) {
+            image = newImage;
+            swaps++;
+            if (layer != null) {
+                animationStart = layer.getClock().now();
+            }
+        }
+    }
+
+    /**
+     * Returns how many times any sprite has changed to a different image.
+     *
+     * @return The total number of image swaps since the game started.
+     */
+    public static long getSwapCount() {
+        return swaps;
+    }
+
+    /**
+     * Returns the recent rate of image swaps across all sprites.
+     * The rate is averaged over windows of at least one second.
+     *
+     * @return The number of image swaps per second.
+     */
+    public static float getSwapsPerSecond() {
+        long now = System.nanoTime();
+        long elapsed = now - sampleTime;
+        if (elapsed >= 1_000_000_000L) {
+            swapsPerSecond = (swaps - sampledSwaps) * 1e9f / elapsed;
+            sampledSwaps = swaps;
+            sampleTime = now;
+        }
+        return swapsPerSecond;
+    }
+
+    /**
+     * Shows or hides this sprite. A hidden sprite stays in its layer but is not drawn.
+     *
+     * @param visible true to draw the sprite, false to hide it.
+     */
+    public void setVisible(boolean visible) {
+        this.visible = visible;
+    }
+
+    /**
+     * Makes the sprite bob smoothly up and down around its body, starting at the top and moving down.
+     *
+     * @param height The distance from the body to the top and to the bottom of the bob, in world units.
+     * @param period The time one full bob takes, in milliseconds of animation time. 0 stops bobbing.
+     */
+    public void setBob(float height, float period) {
+        bobHeight = height;
+        bobPeriod = period;
+        if (layer != null) {
+            bobStart = layer.getClock().now();
+        }
+    }
+
+    /**
+     * Returns the image currently shown by this sprite.
+     *
+     * @return The current image.
+     */
+    public SpriteImage getImage() {
+        return image;
+    }
+
+    /**
+     * Returns the body this sprite is drawn on.
+     *
+     * @return The sprite's body.
+     */
+    public Body getBody() {
+        return body;
+    }
+
+    /**
+     * Draws the current frame of the sprite centred on its body.
+     *
+     * @param g The graphics context of the view, in view coordinates.
+     * @param view The view that is being painted.
+     * @param time The current time of the level's animation clock, in milliseconds.
+     */
+    public void paint(Graphics2D g, UserView view, long time) {
+        if (!visible) {
+            return;
+        }
+        SpriteAtlas.Region frame = image.frameAt(time - animationStart);
+        if (frame == null) {
+            return;
+        }
+        Vec2 position = body.getPosition();
+        Point2D.Float centre = view.worldToView(position);
+        if (bobPeriod > 0) {
+            double phase = 2 * Math.PI * (time - bobStart) / bobPeriod;
+            centre.y -= (float) (bobHeight * Math.cos(phase)) * view.getZoom();
+        }
+        int h = Math.round(image.getHeight() * view.getZoom());
+        int w = h * frame.getWidth() / frame.getHeight();
+
+        float angle = body.getAngle();
+        if (angle == 0) {
+            frame.draw(g, Math.round(centre.x) - w / 2, Math.round(centre.y) - h / 2, w, h);
+        } else {
+            AffineTransform saved = g.getTransform();
+            g.translate(centre.x, centre.y);
+            g.rotate(-angle);
+            frame.draw(g, -w / 2, -h / 2, w, h);
+            g.setTransform(saved);
+        }
+    }
+}
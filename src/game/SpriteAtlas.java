@@ -0,0 +1,354 @@
+package game;
+
+import org.w3c.dom.Node;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.List;
+
+/**
+ * Packs every sprite frame used by the game into a few large display-compatible sheets.
+ * <p>
+ * At startup each sprite file under {@code data/} is decoded once. Animated GIFs are expanded into their
+ * individual frames, with the GIF frame disposal rules applied, and every frame is copied into a shared
+ * sheet, shrunk first if it is larger than any sprite is ever drawn. Game objects then draw a {@link Region}
+ * of a sheet instead of keeping their own toolkit image, which keeps texture switches low and avoids
+ * decoding images while the game is running.
+ * </p>
+ * <p>
+ * The atlas is also the single place to measure sprite memory: {@link #getBytesUsed()} reports the size of
+ * all sheets, and {@link #getBytesUsed(Class)} reports the share used by one kind of game object.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public final class SpriteAtlas {
+    private static final int SHEET_SIZE = 2048;
+    private static final int DEFAULT_FRAME_DELAY = 100;
+    // Larger frames are shrunk when packed; no sprite is drawn bigger than this on screen
+    private static final int MAX_FRAME_SIZE = 320;
+
+    /**
+     * A rectangle within one atlas sheet holding a single sprite frame.
+     */
+    public static final class Region {
+        private final BufferedImage sheet;
+        private final int x, y, width, height;
+        private final int delay;
+
+        private Region(BufferedImage sheet, int x, int y, int width, int height, int delay) {
+            this.sheet = sheet;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.delay = delay;
+        }
+
+        /**
+         * Draws this frame into the given rectangle.
+         *
+         * @param g The graphics context to draw into.
+         * @param dx The left edge of the destination rectangle.
+         * @param dy The top edge of the destination rectangle.
+         * @param dw The width of the destination rectangle.
+         * @param dh The height of the destination rectangle.
+         */
+        public void draw(Graphics2D g, int dx, int dy, int dw, int dh) {
+            g.drawImage(sheet, dx, dy, dx + dw, dy + dh, x, y, x + width, y + height, null);
+        }
+
+        /**
+         * Returns the width of the frame in pixels.
+         *
+         * @return The frame width.
+         */
+        public int getWidth() {
+            return width;
+        }
+
+        /**
+         * Returns the height of the frame in pixels.
+         *
+         * @return The frame height.
+         */
+        public int getHeight() {
+            return height;
+        }
+
+        /**
+         * Returns how long this frame is shown for in an animation.
+         *
+         * @return The frame delay in milliseconds.
+         */
+        public int getDelay() {
+            return delay;
+        }
+    }
+
+    // Sprite files used by each kind of game object, packed when the game starts
+    private static final Map<Class<?>, String[]> classSprites = new LinkedHashMap<>();
+
+    static {
+        classSprites.put(Player.class, new String[]{
+                "data/Player.gif", "data/PlayerLeft.gif",
+                "data/PlayerRunningRight.gif", "data/PlayerRunningLeft.gif",
+                "data/PlayerwithGun.gif", "data/PlayerwithGunLeft.gif"});
+        classSprites.put(Enemy.class, new String[]{"data/ZombieRight.gif", "data/ZombieLeft.gif"});
+        classSprites.put(FlyingEnemy.class, new String[]{"data/FlyingEnemy.gif"});
+        classSprites.put(Key.class, new String[]{"data/key.png"});
+        classSprites.put(Gun.class, new String[]{"data/gun.png"});
+        classSprites.put(HealthPotion.class, new String[]{"data/health_potion.png"});
+        classSprites.put(Armour.class, new String[]{"data/Armour.png"});
+        classSprites.put(Bullets.class, new String[]{"data/Bullet.png"});
+        classSprites.put(Portal.class, new String[]{"data/200w.gif"});
+        classSprites.put(Door.class, new String[]{"data/door.png"});
+        classSprites.put(Diamond.class, new String[]{"data/Diamond.gif"});
+    }
+
+    private static final Map<String, Region[]> regions = new HashMap<>();
+    private static final List<BufferedImage> sheets = new ArrayList<>();
+    private static BufferedImage sheet;
+    private static int cursorX, cursorY, shelfHeight;
+
+    static {
+        for (String[] paths : classSprites.values()) {
+            for (String path : paths) {
+                regions(path);
+            }
+        }
+    }
+
+    private SpriteAtlas() {
+    }
+
+    /**
+     * Makes sure every known sprite has been decoded and packed.
+     * Calling this at startup moves the decoding cost out of the first frames of play.
+     */
+    public static void preload() {
+        // Loading this class packs all sprites listed in the class table
+    }
+
+    /**
+     * Returns the atlas frames for a sprite file, packing the file first if it is not in the atlas yet.
+     *
+     * @param path The path to the sprite file, as used by the game classes.
+     * @return The frames of the sprite in display order; empty if the file could not be read.
+     */
+    public static synchronized Region[] regions(String path) {
+        Region[] frames = regions.get(path);
+        if (frames == null) {
+            frames = pack(path);
+            regions.put(path, frames);
+        }
+        return frames;
+    }
+
+    /**
+     * Returns the sprite files used by a kind of game object.
+     *
+     * @param type The class of the game object, such as {@code Player.class}.
+     * @return The sprite file paths for that class; empty if the class has no sprites.
+     */
+    public static String[] paths(Class<?> type) {
+        String[] paths = classSprites.get(type);
+        return paths == null ? new String[0] : paths.clone();
+    }
+
+    /**
+     * Returns the total size of all atlas sheets.
+     *
+     * @return The number of bytes used by sprite pixel data.
+     */
+    public static synchronized long getBytesUsed() {
+        long total = 0;
+        for (BufferedImage s : sheets) {
+            total += CompatibleImages.sizeInBytes(s);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of bytes taken up in the atlas by the frames of one kind of game object.
+     *
+     * @param type The class of the game object, such as {@code Enemy.class}.
+     * @return The number of bytes used by that class's frames.
+     */
+    public static synchronized long getBytesUsed(Class<?> type) {
+        long total = 0;
+        for (String path : paths(type)) {
+            for (Region frame : regions(path)) {
+                total += (long) frame.width * frame.height * 4;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of sheets the atlas currently uses.
+     *
+     * @return The sheet count.
+     */
+    public static synchronized int getSheetCount() {
+        return sheets.size();
+    }
+
+    private static Region[] pack(String path) {
+        List<BufferedImage> frames = new ArrayList<>();
+        List<Integer> delays = new ArrayList<>();
+        try {
+            decode(new File(path), frames, delays);
+        } catch (IOException e) {
+            System.out.println(e);
+        }
+        Region[] packed = new Region[frames.size()];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = place(frames.get(i), delays.get(i));
+        }
+        return packed;
+    }
+
+    // Copies a frame into the current sheet using simple shelf packing
+    private static Region place(BufferedImage frame, int delay) {
+        int w = frame.getWidth();
+        int h = frame.getHeight();
+        if (w > MAX_FRAME_SIZE || h > MAX_FRAME_SIZE) {
+            float scale = (float) MAX_FRAME_SIZE / Math.max(w, h);
+            w = Math.max(1, Math.round(w * scale));
+            h = Math.max(1, Math.round(h * scale));
+        }
+        if (sheet == null || cursorX + w > sheet.getWidth()) {
+            cursorX = 0;
+            cursorY += shelfHeight;
+            shelfHeight = 0;
+        }
+        if (sheet == null || cursorY + h > sheet.getHeight()) {
+            sheet = CompatibleImages.create(Math.max(SHEET_SIZE, w), Math.max(SHEET_SIZE, h), Transparency.TRANSLUCENT);
+            sheets.add(sheet);
+            cursorX = 0;
+            cursorY = 0;
+            shelfHeight = 0;
+        }
+        Graphics2D g = sheet.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(frame, cursorX, cursorY, w, h, null);
+        g.dispose();
+
+        Region region = new Region(sheet, cursorX, cursorY, w, h, delay);
+        cursorX += w;
+        shelfHeight = Math.max(shelfHeight, h);
+        return region;
+    }
+
+    private static void decode(File file, List<BufferedImage> frames, List<Integer> delays) throws IOException {
+        if (!file.getName().toLowerCase().endsWith(".gif")) {
+            BufferedImage image = ImageIO.read(file);
+            if (image == null) {
+                System.out.println("Unsupported image format: " + file);
+                return;
+            }
+            frames.add(image);
+            delays.add(DEFAULT_FRAME_DELAY);
+            return;
+        }
+
+        ImageReader reader = ImageIO.getImageReadersByFormatName("gif").next();
+        try (ImageInputStream in = ImageIO.createImageInputStream(file)) {
+            if (in == null) {
+                throw new IOException("Cannot open " + file);
+            }
+            reader.setInput(in, false);
+            int count = reader.getNumImages(true);
+            BufferedImage canvas = null;
+            for (int i = 0; i < count; i++) {
+                BufferedImage raw = reader.read(i);
+                Node frameTree = reader.getImageMetadata(i).getAsTree("javax_imageio_gif_image_1.0");
+                Node descriptor = child(frameTree, "ImageDescriptor");
+                Node control = child(frameTree, "GraphicControlExtension");
+                int left = intAttribute(descriptor, "imageLeftPosition");
+                int top = intAttribute(descriptor, "imageTopPosition");
+                int delay = intAttribute(control, "delayTime") * 10;
+                String disposal = control == null ? "none" : attribute(control, "disposalMethod");
+
+                if (canvas == null) {
+                    Dimension screen = logicalScreen(reader.getStreamMetadata(), raw);
+                    canvas = new BufferedImage(screen.width, screen.height, BufferedImage.TYPE_INT_ARGB);
+                }
+                BufferedImage previous = "restoreToPrevious".equals(disposal) ? copy(canvas) : null;
+
+                Graphics2D g = canvas.createGraphics();
+                g.drawImage(raw, left, top, null);
+                g.dispose();
+                frames.add(copy(canvas));
+                delays.add(delay > 10 ? delay : DEFAULT_FRAME_DELAY);
+
+                if ("restoreToBackgroundColor".equals(disposal)) {
+                    g = canvas.createGraphics();
+                    g.setComposite(AlphaComposite.Clear);
+                    g.fillRect(left, top, raw.getWidth(), raw.getHeight());
+                    g.dispose();
+                } else if (previous != null) {
+                    canvas = previous;
+                }
+            }
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    private static Dimension logicalScreen(IIOMetadata streamMetadata, BufferedImage firstFrame) {
+        if (streamMetadata != null) {
+            Node tree = streamMetadata.getAsTree("javax_imageio_gif_stream_1.0");
+            Node screen = child(tree, "LogicalScreenDescriptor");
+            int width = intAttribute(screen, "logicalScreenWidth");
+            int height = intAttribute(screen, "logicalScreenHeight");
+            if (width > 0 && height > 0) {
+                return new Dimension(width, height);
+            }
+        }
+        return new Dimension(firstFrame.getWidth(), firstFrame.getHeight());
+    }
+
+    private static BufferedImage copy(BufferedImage image) {
+        BufferedImage copy = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = copy.createGraphics();
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return copy;
+    }
+
+    private static Node child(Node parent, String name) {
+        if (parent == null) {
+            return null;
+        }
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (name.equals(node.getNodeName())) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private static String attribute(Node node, String name) {
+        Node value = node.getAttributes().getNamedItem(name);
+        return value == null ? null : value.getNodeValue();
+    }
+
+    private static int intAttribute(Node node, String name) {
+        if (node == null) {
+            return 0;
+        }
+        String value = attribute(node, name);
+        return value == null ? 0 : Integer.parseInt(value);
+    }
+}
@@ -0,0 +1,78 @@
+package game;
+
+/**
+ * An image, possibly animated, that can be shown on a game object through a {@link Sprite}.
+ * <p>
+ * A sprite image plays the same role as an engine {@code BodyImage}: it names an image file and the height
+ * the image should have in the game world. The frames themselves live in the {@link SpriteAtlas}, so
+ * creating a sprite image does not load or decode anything once the atlas has been built.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public final class SpriteImage {
+    private final String path;
+    private final float height;
+    private final SpriteAtlas.Region[] frames;
+    private final int duration;
+
+    /**
+     * Constructs a sprite image for the given file.
+     *
+     * @param path The path to the image file.
+     * @param height The height of the image in world units (metres).
+     */
+    public SpriteImage(String path, float height) {
+        this.path = path;
+        this.height = height;
+        this.frames = SpriteAtlas.regions(path);
+        int total = 0;
+        for (SpriteAtlas.Region frame : frames) {
+            total += frame.getDelay();
+        }
+        this.duration = total;
+    }
+
+    /**
+     * Returns the frame to show at a given point in the animation.
+     *
+     * @param time The time since the animation started, in milliseconds.
+     * @return The frame for that time, or {@code null} if the image has no frames.
+     */
+    public SpriteAtlas.Region frameAt(long time) {
+        if (frames.length == 0) {
+            return null;
+        }
+        if (frames.length == 1 || duration <= 0) {
+            return frames[0];
+        }
+        long t = time % duration;
+        for (SpriteAtlas.Region frame : frames) {
+            t -= frame.getDelay();
+            if (t < 0) {
+                return frame;
+            }
+        }
+        return frames[frames.length - 1];
+    }
+
+    /**
+     * Returns the path of the image file.
+     *
+     * @return The image file path.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the height of the image in world units.
+     *
+     * @return The image height in metres.
+     */
+    public float getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,111 @@
+package game;
+
+import city.cs.engine.*;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds every {@link Sprite} of a level and draws them in one pass.
+ * <p>
+ * Each {@link GameLevel} owns one sprite layer. {@link GameView} paints the layer of the level it is showing
+ * before drawing the HUD, so all sprites are drawn together from the shared {@link SpriteAtlas} sheets.
+ * Animation frames are chosen from the level's {@link AnimationClock}, so animations follow the simulation
+ * and never trigger repaints of their own.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class SpriteLayer {
+    private final List<Sprite> sprites = new ArrayList<>();
+    private final AnimationClock clock;
+
+    /**
+     * Constructs an empty sprite layer whose animations follow the given clock.
+     *
+     * @param clock The clock of the level this layer belongs to.
+     */
+    public SpriteLayer(AnimationClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the sprite layer of a world.
+     *
+     * @param world The world to look up.
+     * @return The world's sprite layer, or {@code null} if the world is not a game level.
+     */
+    public static SpriteLayer of(World world) {
+        if (world instanceof GameLevel) {
+            return ((GameLevel) world).getSprites();
+        }
+        return null;
+    }
+
+    /**
+     * Adds a sprite to the layer. Sprites are drawn in the order they were added.
+     *
+     * @param sprite The sprite to add.
+     */
+    public void add(Sprite sprite) {
+        sprites.add(sprite);
+    }
+
+    /**
+     * Removes a sprite from the layer, for example when its body is destroyed.
+     *
+     * @param sprite The sprite to remove.
+     */
+    public void remove(Sprite sprite) {
+        sprites.remove(sprite);
+    }
+
+    /**
+     * Makes the sprite of a body bob up and down around it. Only the drawing moves; the body stays where it is.
+     *
+     * @param body The body whose sprite should bob, such as a pickup or key.
+     * @param height The distance from the body to the top and to the bottom of the bob, in world units.
+     * @param seconds The time one full bob takes, in seconds.
+     */
+    public void bob(Body body, float height, float seconds) {
+        for (int i = 0; i < sprites.size(); i++) {
+            if (sprites.get(i).getBody() == body) {
+                sprites.get(i).setBob(height, seconds * 1000);
+            }
+        }
+    }
+
+    /**
+     * Returns the clock that drives the animations in this layer.
+     *
+     * @return The layer's animation clock.
+     */
+    public AnimationClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Returns the number of sprites in the layer.
+     *
+     * @return The sprite count.
+     */
+    public int size() {
+        return sprites.size();
+    }
+
+    /**
+     * Draws all sprites in the layer.
+     *
+     * @param g The graphics context of the view, in view coordinates.
+     * @param view The view that is being painted.
+     */
+    public void paint(Graphics2D g, UserView view) {
+        long time = clock.now();
+        for (int i = 0; i < sprites.size(); i++) {
+            sprites.get(i).paint(g, view, time);
+        }
+    }
+}
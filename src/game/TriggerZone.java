@@ -0,0 +1,151 @@
+package game;
+
+import city.cs.engine.*;
+import org.jbox2d.common.Vec2;
+
+/**
+ * A rectangular area of a level that reports when a chosen body enters or leaves it.
+ * <p>
+ * The zone is a {@link Sensor} on a static body of its own, so the physics engine only reports to it when
+ * contact with the watched body begins or ends; nothing is checked on steps where the watched body stays
+ * inside or outside. A body touching the zone with more than one fixture still gives a single enter event
+ * and a single exit event. Zones are used for pickups, checkpoints and level exits that are defined by an
+ * area rather than by a body the player has to touch.
+ * </p>
+ * <p>
+ * A single-use zone stops reporting the first time the body enters it, and its body is destroyed at the end
+ * of that step.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class TriggerZone implements SensorListener {
+
+    /**
+     * Receives the enter and exit events of a trigger zone.
+     */
+    public interface Listener {
+
+        /**
+         * Called once when the watched body enters the zone.
+         *
+         * @param zone The zone that was entered.
+         */
+        void entered(TriggerZone zone);
+
+        /**
+         * Called once when the watched body leaves the zone. Does nothing unless overridden.
+         *
+         * @param zone The zone that was left.
+         */
+        default void exited(TriggerZone zone) {
+        }
+    }
+
+    private final StaticBody body;
+    private final Body watched;
+    private final Listener listener;
+    private final boolean singleUse;
+    private boolean removed;
+    private int touching;
+    private int enterCount, exitCount;
+
+    /**
+     * Constructs a trigger zone and adds it to a world.
+     *
+     * @param world The world the zone belongs to.
+     * @param x The horizontal position of the zone's centre.
+     * @param y The vertical position of the zone's centre.
+     * @param halfWidth Half the width of the zone.
+     * @param halfHeight Half the height of the zone.
+     * @param watched The body whose entering and leaving is reported, usually the player.
+     * @param singleUse true if the zone should remove itself after it is first entered.
+     * @param listener The listener told about enter and exit events.
+     */
+    public TriggerZone(World world, float x, float y, float halfWidth, float halfHeight,
+                       Body watched, boolean singleUse, Listener listener) {
+        this.watched = watched;
+        this.singleUse = singleUse;
+        this.listener = listener;
+        body = new StaticBody(world);
+        body.setPosition(new Vec2(x, y));
+        Sensor sensor = new Sensor(body, new BoxShape(halfWidth, halfHeight));
+        sensor.addSensorListener(this);
+    }
+
+    /**
+     * Counts the watched body's fixtures coming into the zone and reports the first one as an enter event.
+     *
+     * @param e The event details of the sensor contact.
+     */
+    @Override
+    public void beginContact(SensorEvent e) {
+        if (removed || e.getContactBody() != watched) {
+            return;
+        }
+        if (touching++ == 0) {
+            enterCount++;
+            listener.entered(this);
+            if (singleUse) {
+                remove();
+            }
+        }
+    }
+
+    /**
+     * Counts the watched body's fixtures leaving the zone and reports the last one as an exit event.
+     *
+     * @param e The event details of the sensor contact.
+     */
+    @Override
+    public void endContact(SensorEvent e) {
+        if (e.getContactBody() != watched || touching == 0) {
+            return;
+        }
+        if (--touching == 0) {
+            exitCount++;
+            listener.exited(this);
+        }
+    }
+
+    /**
+     * Checks whether the watched body is currently inside the zone.
+     *
+     * @return true if the watched body is in the zone.
+     */
+    public boolean isOccupied() {
+        return touching > 0;
+    }
+
+    /**
+     * Returns how many times the watched body has entered the zone.
+     *
+     * @return The number of enter events.
+     */
+    public int getEnterCount() {
+        return enterCount;
+    }
+
+    /**
+     * Returns how many times the watched body has left the zone.
+     *
+     * @return The number of exit events.
+     */
+    public int getExitCount() {
+        return exitCount;
+    }
+
+    /**
+     * Removes the zone from its world. No further events are reported. The zone's body is destroyed through the
+     * level's {@link DeferredQueue}, at the end of the current step, so this is safe to call from a contact.
+     */
+    public void remove() {
+        if (!removed) {
+            removed = true;
+            touching = 0;
+            DeferredQueue.destroy(body);
+        }
+    }
+}
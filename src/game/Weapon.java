@@ -0,0 +1,127 @@
+package game;
+
+import org.jbox2d.common.Vec2;
+
+/**
+ * The player's gun in one level, firing either physical bullets or instant hitscan shots.
+ * <p>
+ * In {@link Mode#PROJECTILE} mode each shot launches a bullet from the level's {@link BulletPool}, which the
+ * physics engine moves and collides like any other body. In {@link Mode#HITSCAN} mode a shot is resolved at
+ * once by a single line test through the {@link LevelGeometry}, from the player's position in the direction
+ * they face: the first enemy or platform on the line stops the shot, and an enemy takes damage under the
+ * same rules as a bullet hit. Hitscan shots create no bodies, so they add nothing to the cost of later
+ * physics steps. In {@link Mode#BATCHED} mode a shot is added to the level's {@link ProjectileEngine}, which
+ * moves it with thousands of others in plain arrays.
+ * </p>
+ * <p>
+ * The mode starts as projectile unless the game is run with {@code -Dgame.weapon=hitscan} or
+ * {@code -Dgame.weapon=batched}, and can be changed at any time with {@link #setMode(Mode)}, which makes it
+ * easy to compare step costs under heavy fire.
+ * </p>
+ *
+ * @author Idrees Nasar-ullah, idreesnasar-ullah@city.ac.uk
+ * @version 1.0
+ * @since 1.0
+ */
+public class Weapon {
+    private static final float MUZZLE_OFFSET = 2;
+    private static final float BULLET_SPEED = 20;
+    private static final float HITSCAN_RANGE = 60;
+    private static final float PROJECTILE_LIFETIME = 3;
+
+    /**
+     * How the weapon's shots are resolved.
+     */
+    public enum Mode {
+        /** Shots are pooled bullet bodies moved by the physics engine. */
+        PROJECTILE,
+        /** Shots hit the first thing in line instantly, without a body. */
+        HITSCAN,
+        /** Shots are moving entries in the level's projectile engine, without a body. */
+        BATCHED
+    }
+
+    private final GameLevel level;
+    private Mode mode;
+    private long shots, enemyHits;
+    private final LevelGeometry.Hit hit = new LevelGeometry.Hit();
+
+    /**
+     * Constructs the weapon for a level.
+     *
+     * @param level The level the weapon is fired in.
+     */
+    public Weapon(GameLevel level) {
+        this.level = level;
+        this.mode = Mode.PROJECTILE;
+        String setting = System.getProperty("game.weapon");
+        for (Mode m : Mode.values()) {
+            if (m.name().equalsIgnoreCase(setting)) {
+                this.mode = m;
+            }
+        }
+    }
+
+    /**
+     * Fires one shot from the player.
+     *
+     * @param player The player firing the weapon.
+     * @param right true to fire to the right, false to fire to the left.
+     */
+    public void fire(Player player, boolean right) {
+        float direction = right ? 1 : -1;
+        Vec2 position = player.getPosition();
+        shots++;
+        if (mode == Mode.PROJECTILE) {
+            level.getBullets().fire(position.x + MUZZLE_OFFSET * direction, position.y, BULLET_SPEED * direction, 0);
+            return;
+        }
+        Bullets.playShotSound();
+        if (mode == Mode.BATCHED) {
+            level.getProjectiles().spawn(position.x + MUZZLE_OFFSET * direction, position.y,
+                    BULLET_SPEED * direction, 0, PROJECTILE_LIFETIME);
+            return;
+        }
+        if (level.getGeometry().raycast(position.x, position.y,
+                position.x + HITSCAN_RANGE * direction, position.y, hit) && hit.isTarget()) {
+            enemyHits++;
+            BulletCollision.damage(hit.getBody());
+        }
+    }
+
+    /**
+     * Returns how shots are currently resolved.
+     *
+     * @return The weapon mode.
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Changes how shots are resolved from the next shot on.
+     *
+     * @param mode The new weapon mode.
+     */
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Returns the number of shots fired with this weapon in either mode.
+     *
+     * @return The shot count.
+     */
+    public long getShots() {
+        return shots;
+    }
+
+    /**
+     * Returns the number of hitscan shots that hit an enemy.
+     *
+     * @return The hitscan enemy hit count.
+     */
+    public long getEnemyHits() {
+        return enemyHits;
+    }
+}